@@ -0,0 +1,71 @@
+package com.sughelp.pdf.generator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A batch of small documents created by {@link PdfBatchGenerator} with a
+ * varying number of worker threads. The score is the time of the whole batch,
+ * so the throughput is the number of jobs divided by it.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchBenchmark {
+
+	private static final PdfBatchSink DISCARDING_SINK = () -> new OutputStream() {
+
+		@Override
+		public void write(int b) {
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+		}
+	};
+
+	@Param({ "1", "4" })
+	public int threads;
+
+	@Param({ "200" })
+	public int jobs;
+
+	private String json;
+	private PdfBatchGenerator batchGenerator;
+
+	@Setup
+	public void createBatch() throws IOException {
+		json = SyntheticTemplates.toJson(SyntheticTemplates.create(50, 4, 30, 0, false));
+		batchGenerator = new PdfBatchGenerator(threads, new PdfGeneratorConfig());
+	}
+
+	@Benchmark
+	public PdfBatchReport generate() throws InterruptedException {
+		List<PdfBatchJob> batch = new ArrayList<>(jobs);
+		for (int i = 0; i < jobs; i++)
+			batch.add(new PdfBatchJob("statement-" + i, json, DISCARDING_SINK));
+		return batchGenerator.generate(batch);
+	}
+}
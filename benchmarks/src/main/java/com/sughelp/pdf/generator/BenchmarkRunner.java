@@ -0,0 +1,37 @@
+package com.sughelp.pdf.generator;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler and records the results in
+ * <code>jmh-result.json</code>, so allocation regressions are visible between
+ * releases. All the JMH command line options are accepted, e.g. a benchmark
+ * name pattern or <code>-p rows=500</code>. The result file can be changed
+ * with <code>-rff</code>.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public final class BenchmarkRunner {
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+		Options options = new OptionsBuilder().parent(commandLineOptions)
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result(commandLineOptions.getResult().orElse("jmh-result.json"))
+				.build();
+		new Runner(options).run();
+	}
+}
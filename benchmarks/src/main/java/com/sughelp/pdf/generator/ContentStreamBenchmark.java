@@ -0,0 +1,92 @@
+package com.sughelp.pdf.generator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A dense grid of short cells, where most of the content streams are the text
+ * positioning and the cell borders. The score is the time to create the pdf.
+ * The size of the pdf and the decoded size of the content streams of all its
+ * pages are printed when the benchmark is set up, as the content streams are
+ * compressed in the pdf.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentStreamBenchmark {
+
+	@Param({ "1000" })
+	public int rows;
+
+	@Param({ "8" })
+	public int columns;
+
+	private Template template;
+
+	@Setup
+	public void createTemplate() throws IOException {
+		template = SyntheticTemplates.create(rows, columns, 12, 0, false);
+		byte[] pdf;
+		try (PdfGenerator pdfGenerator = new PdfGenerator()) {
+			pdf = pdfGenerator.createPdfByteArray(template, "benchmark");
+		}
+		long contentBytes = 0;
+		try (PDDocument document = PDDocument.load(pdf)) {
+			byte[] buffer = new byte[8192];
+			for (PDPage page : document.getPages()) {
+				try (InputStream contents = page.getContents()) {
+					for (int read = contents.read(buffer); read > 0; read = contents.read(buffer))
+						contentBytes += read;
+				}
+			}
+		}
+		System.out.println("pdf bytes = " + pdf.length + ", content stream bytes = " + contentBytes);
+	}
+
+	@Benchmark
+	public long createPdf() throws IOException {
+		CountingOutputStream outputStream = new CountingOutputStream();
+		try (PdfGenerator pdfGenerator = new PdfGenerator()) {
+			pdfGenerator.createPdf(template, "benchmark", outputStream);
+		}
+		return outputStream.count;
+	}
+
+	private static final class CountingOutputStream extends OutputStream {
+
+		private long count;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			count += len;
+		}
+	}
+}
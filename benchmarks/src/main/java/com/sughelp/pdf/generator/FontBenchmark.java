@@ -0,0 +1,77 @@
+package com.sughelp.pdf.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creation of a small report in a font of the {@link FontRegistry}, compared
+ * with the standard Times font when the font file is empty. The font file is
+ * parsed once when it is registered, and {@link #loadFontFromFile()} is the
+ * cost of loading the font from its file, which each document would pay
+ * otherwise.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FontBenchmark {
+
+	private static final String FONT_NAME = "benchmark";
+
+	@Param({ "", "/usr/share/fonts/truetype/dejavu/DejaVuSans.ttf" })
+	public String fontFile;
+
+	@Param({ "50" })
+	public int rows;
+
+	private Template template;
+
+	@Setup
+	public void createTemplate() throws IOException {
+		template = SyntheticTemplates.create(rows, 4, 100, 0, false);
+		if (fontFile.isEmpty())
+			return;
+		FontRegistry.register(FONT_NAME, fontFile);
+		for (Table table : template.getTables())
+			for (Row row : table.getRows())
+				for (Column column : row.getColumns())
+					column.setFontName(FONT_NAME);
+	}
+
+	@Benchmark
+	public byte[] createPdf() throws IOException {
+		try (PdfGenerator pdfGenerator = new PdfGenerator()) {
+			return pdfGenerator.createPdfByteArray(template, "benchmark");
+		}
+	}
+
+	@Benchmark
+	public int loadFontFromFile() throws IOException {
+		if (fontFile.isEmpty())
+			return 0;
+		try (PDDocument document = new PDDocument()) {
+			return PDType0Font.load(document, new File(fontFile)).getName().length();
+		}
+	}
+}
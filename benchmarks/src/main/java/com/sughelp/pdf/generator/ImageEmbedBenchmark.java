@@ -0,0 +1,117 @@
+package com.sughelp.pdf.generator;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.graphics.image.JPEGFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Embedding of an image in a document, with {@link ImagePassthrough} against
+ * decoding the image and encoding it again with the PDFBox factories. The
+ * assets are a logo (flat colors and text, PNG) and a photo (smooth gradients
+ * with noise, JPEG and PNG) of a small and a large size.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImageEmbedBenchmark {
+
+	@Param({ "logo.png", "photo.png", "photo.jpg" })
+	public String asset;
+
+	@Param({ "200", "2000" })
+	public int width;
+
+	private byte[] imageBytes;
+	private PDDocument document;
+
+	@Setup
+	public void createImage() throws IOException {
+		int height = width * 3 / 4;
+		BufferedImage image = asset.startsWith("logo") ? logo(width, height) : photo(width, height);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ImageIO.write(image, asset.substring(asset.indexOf('.') + 1), outputStream);
+		imageBytes = outputStream.toByteArray();
+	}
+
+	@Setup(Level.Invocation)
+	public void createDocument() {
+		document = new PDDocument();
+	}
+
+	@TearDown(Level.Invocation)
+	public void closeDocument() throws IOException {
+		document.close();
+	}
+
+	@Benchmark
+	public PDImageXObject passthrough() throws IOException {
+		return ImagePassthrough.createImage(document, imageBytes);
+	}
+
+	@Benchmark
+	public PDImageXObject decode() throws IOException {
+		BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageBytes));
+		if (asset.endsWith(".jpg"))
+			return JPEGFactory.createFromImage(document, image);
+		return LosslessFactory.createFromImage(document, image);
+	}
+
+	private static BufferedImage logo(int width, int height) {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		graphics.setColor(Color.WHITE);
+		graphics.fillRect(0, 0, width, height);
+		graphics.setColor(new Color(0x1f4e79));
+		graphics.fillOval(width / 10, height / 10, height * 8 / 10, height * 8 / 10);
+		graphics.setColor(new Color(0xc00000));
+		graphics.setFont(graphics.getFont().deriveFont(height / 5f));
+		graphics.drawString("Sughelp", width / 2, height / 2);
+		graphics.dispose();
+		return image;
+	}
+
+	private static BufferedImage photo(int width, int height) {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Random random = new Random(1);
+		for (int x = 0; x < width; x++)
+			for (int y = 0; y < height; y++) {
+				int r = (x * 255 / width + random.nextInt(16)) & 0xff;
+				int g = (y * 255 / height + random.nextInt(16)) & 0xff;
+				int b = ((x + y) * 127 / (width + height) + random.nextInt(16)) & 0xff;
+				image.setRGB(x, y, r << 16 | g << 8 | b);
+			}
+		return image;
+	}
+}
@@ -0,0 +1,122 @@
+package com.sughelp.pdf.generator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Line wrapping of a column text and calculation of the row height from the
+ * wrapped lines. {@link #layoutRow()} is the whole layout of a row, i.e. the
+ * wrapping of all its columns, its height and the plan of its part in a page,
+ * and should not allocate once warmed up (run with <b>-prof gc</b>). Its
+ * columns have the width of a table of six columns in the page.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LayoutBenchmark {
+
+	private static final float FONT_SIZE = 7;
+	private static final float CELL_X_MARGIN = 3;
+	private static final float CELL_Y_MARGIN = 3;
+	private static final float PAGE_MARGIN = 40;
+
+	@Param({ "100", "2000", "5000" })
+	public int textLength;
+
+	@Param({ "130" })
+	public float columnWidth;
+
+	@Param({ "6" })
+	public int columns;
+
+	private String text;
+	private TextLines textLines;
+	private RowLayout rowLayout;
+	private PdfGenerator pdfGenerator;
+	private Row row;
+	private TableLayout tableLayout;
+	private RowLayout plannedRowLayout;
+	private RowFragment rowFragment;
+
+	@Setup
+	public void createText() {
+		Random random = new Random(textLength);
+		text = SyntheticTemplates.text(random, textLength);
+		textLines = new TextLines();
+		List<Column> rowColumns = new ArrayList<>(columns);
+		for (int i = 0; i < columns; i++) {
+			Column column = new Column();
+			column.setText(SyntheticTemplates.text(random, textLength));
+			column.setFontSize(FONT_SIZE);
+			rowColumns.add(column);
+		}
+		row = new Row();
+		row.setColumns(rowColumns);
+		rowLayout = new RowLayout();
+		rowLayout.reset(row, columns);
+		for (int i = 0; i < columns; i++) {
+			ColumnLayout columnLayout = rowLayout.getColumn(i);
+			columnLayout.reset(rowColumns.get(i), FontMetrics.TIMES_ROMAN);
+			LineBreaker.split(FontMetrics.TIMES_ROMAN, FONT_SIZE, columnWidth, rowColumns.get(i).getText(),
+					columnLayout.getTextLines());
+		}
+		pdfGenerator = new PdfGenerator();
+		Table table = new Table();
+		table.setTotalColumnCount(columns);
+		table.setRows(new ArrayList<>(Arrays.asList(row)));
+		tableLayout = new TableLayout(table, TableGeometry.of(table, PdfGenerator.PAGE_SIZE.getWidth()),
+				PdfGenerator.PAGE_SIZE.getHeight() - PAGE_MARGIN);
+		plannedRowLayout = new RowLayout();
+		rowFragment = new RowFragment();
+	}
+
+	@Benchmark
+	public TextLines lineWrapping() {
+		LineBreaker.split(FontMetrics.TIMES_ROMAN, FONT_SIZE, columnWidth, text, textLines);
+		return textLines;
+	}
+
+	@Benchmark
+	public float rowHeight() {
+		return pdfGenerator.calculateRowHeight(rowLayout, CELL_Y_MARGIN);
+	}
+
+	@Benchmark
+	public RowFragment layoutRow() {
+		float[] columnWidths = tableLayout.getColumnWidths();
+		plannedRowLayout.reset(row, columns);
+		for (int i = 0; i < columns; i++) {
+			Column column = row.getColumns().get(i);
+			ColumnLayout columnLayout = plannedRowLayout.getColumn(i);
+			columnLayout.reset(column, FontMetrics.TIMES_ROMAN);
+			LineBreaker.split(FontMetrics.TIMES_ROMAN, FONT_SIZE, columnWidths[i] - 3 * CELL_X_MARGIN,
+					column.getText(), columnLayout.getTextLines());
+		}
+		plannedRowLayout.setHeight(pdfGenerator.calculateRowHeight(plannedRowLayout, CELL_Y_MARGIN));
+		RowPlanner.plan(tableLayout, plannedRowLayout, rowFragment, CELL_X_MARGIN,
+				tableLayout.getyPositionFromBottom() - CELL_Y_MARGIN, CELL_X_MARGIN, CELL_Y_MARGIN, PAGE_MARGIN);
+		return rowFragment;
+	}
+}
@@ -0,0 +1,83 @@
+package com.sughelp.pdf.generator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creation of a report without a {@link GenerationListener} and with an
+ * {@link AggregatingGenerationListener}, to check the cost of the metrics. The
+ * report of the aggregated metrics is printed when the benchmark is torn down.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsBenchmark {
+
+	@Param({ "none", "aggregating" })
+	public String listener;
+
+	@Param({ "50", "1000" })
+	public int rows;
+
+	private Template template;
+	private AggregatingGenerationListener aggregatingListener;
+	private PdfGenerator pdfGenerator;
+
+	@Setup
+	public void createTemplate() throws IOException {
+		template = SyntheticTemplates.create(rows, 4, 100, 0, false);
+		PdfGeneratorConfig config = new PdfGeneratorConfig();
+		if ("aggregating".equals(listener)) {
+			aggregatingListener = new AggregatingGenerationListener();
+			config.setGenerationListener(aggregatingListener);
+		}
+		pdfGenerator = new PdfGenerator(config);
+	}
+
+	@Benchmark
+	public void createPdf() throws IOException {
+		pdfGenerator.reset();
+		pdfGenerator.createPdf(template, "benchmark", NullOutputStream.INSTANCE);
+	}
+
+	@TearDown
+	public void printReport() throws IOException {
+		if (aggregatingListener != null)
+			System.out.println(aggregatingListener.report());
+		pdfGenerator.close();
+	}
+
+	private static final class NullOutputStream extends OutputStream {
+
+		static final NullOutputStream INSTANCE = new NullOutputStream();
+
+		@Override
+		public void write(int b) {
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package com.sughelp.pdf.generator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sughelp.pdf.generator.constants.PdfOutputProfile;
+
+/**
+ * Creation of a report with each {@link PdfOutputProfile}. The score is the
+ * time to create the pdf, and the size of the pdf of the profile is printed
+ * when the benchmark is set up, so the profiles can be compared by size
+ * against time.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OutputProfileBenchmark {
+
+	@Param({ "DEFAULT", "FAST_WRITE", "SMALLEST_FILE", "UNCOMPRESSED" })
+	public PdfOutputProfile profile;
+
+	@Param({ "50", "1000" })
+	public int rows;
+
+	private Template template;
+	private PdfGenerator pdfGenerator;
+
+	@Setup
+	public void createTemplate() throws IOException {
+		template = SyntheticTemplates.create(rows, 4, 100, 0, false);
+		PdfGeneratorConfig config = new PdfGeneratorConfig();
+		config.setOutputProfile(profile);
+		pdfGenerator = new PdfGenerator(config);
+		CountingOutputStream outputStream = new CountingOutputStream();
+		pdfGenerator.createPdf(template, "benchmark", outputStream);
+		System.out.println(profile + " pdf bytes = " + outputStream.count);
+	}
+
+	@Benchmark
+	public long createPdf() throws IOException {
+		pdfGenerator.reset();
+		CountingOutputStream outputStream = new CountingOutputStream();
+		pdfGenerator.createPdf(template, "benchmark", outputStream);
+		return outputStream.count;
+	}
+
+	private static final class CountingOutputStream extends OutputStream {
+
+		private long count;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			count += len;
+		}
+	}
+}
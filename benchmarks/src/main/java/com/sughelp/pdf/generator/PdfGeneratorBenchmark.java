@@ -0,0 +1,72 @@
+package com.sughelp.pdf.generator;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End to end generation of a pdf byte array from a {@link Template} and from
+ * its json content.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfGeneratorBenchmark {
+
+	@Param({ "50", "500" })
+	public int rows;
+
+	@Param({ "4" })
+	public int columns;
+
+	@Param({ "30", "300" })
+	public int textLength;
+
+	@Param({ "0", "0.05" })
+	public float imageShare;
+
+	@Param({ "false", "true" })
+	public boolean pageOverflow;
+
+	private String json;
+	private Template template;
+
+	@Setup(Level.Trial)
+	public void createTemplate() throws IOException {
+		template = SyntheticTemplates.create(rows, columns, textLength, imageShare, pageOverflow);
+		json = SyntheticTemplates.toJson(template);
+	}
+
+	@Benchmark
+	public byte[] createPdfByteArrayFromTemplate() throws IOException {
+		try (PdfGenerator pdfGenerator = new PdfGenerator()) {
+			return pdfGenerator.createPdfByteArray(template, "benchmark");
+		}
+	}
+
+	@Benchmark
+	public byte[] createPdfByteArrayFromJson() throws IOException {
+		try (PdfGenerator pdfGenerator = new PdfGenerator()) {
+			return pdfGenerator.createPdfByteArray(json, "benchmark");
+		}
+	}
+}
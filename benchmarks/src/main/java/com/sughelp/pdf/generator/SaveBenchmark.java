@@ -0,0 +1,76 @@
+package com.sughelp.pdf.generator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization of a generated document with {@link PDDocument#save}. The
+ * document is generated once and saved to a stream which discards the bytes.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaveBenchmark {
+
+	@Param({ "50", "1000" })
+	public int rows;
+
+	private PDDocument document;
+
+	@Setup
+	public void createDocument() throws IOException {
+		try (PdfGenerator pdfGenerator = new PdfGenerator()) {
+			document = PDDocument.load(pdfGenerator
+					.createPdfByteArray(SyntheticTemplates.create(rows, 4, 100, 0.02f, false), "benchmark"));
+		}
+	}
+
+	@TearDown
+	public void closeDocument() throws IOException {
+		document.close();
+	}
+
+	@Benchmark
+	public long save() throws IOException {
+		CountingOutputStream outputStream = new CountingOutputStream();
+		document.save(outputStream);
+		return outputStream.count;
+	}
+
+	private static final class CountingOutputStream extends OutputStream {
+
+		private long count;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			count += len;
+		}
+	}
+}
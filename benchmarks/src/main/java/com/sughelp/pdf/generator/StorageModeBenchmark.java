@@ -0,0 +1,124 @@
+package com.sughelp.pdf.generator;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sughelp.pdf.generator.constants.PdfStorageMode;
+
+/**
+ * Heap used by documents of increasing page count in each
+ * {@link PdfStorageMode}. Each measurement generates one document. The heap
+ * still used by the open document after a full GC is reported as the
+ * <code>documentHeapMegaBytes</code> counter, and the peak usage of the heap
+ * pools during the generation as the <code>peakHeapMegaBytes</code> counter.
+ * The template is streamed from its json content and the document is written to
+ * a stream which discards the bytes, so neither the template nor the output
+ * count towards the heap used by the document.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class StorageModeBenchmark {
+
+	// rows of one line of text which fit in one page with the default margins
+	private static final int ROWS_PER_PAGE = 47;
+	private static final long MIXED_MAX_MAIN_MEMORY_BYTES = 8L * 1024 * 1024;
+	// a few image cells per page, so the document holds large streams as well
+	private static final float IMAGE_SHARE = 0.01f;
+
+	@Param({ "MAIN_MEMORY_ONLY", "MIXED", "TEMP_FILE_ONLY" })
+	public PdfStorageMode storageMode;
+
+	@Param({ "100", "1000", "3000" })
+	public int pages;
+
+	private PdfGeneratorConfig config;
+	private byte[] template;
+	private long heapUsedBefore;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class HeapCounters {
+
+		public double documentHeapMegaBytes;
+		public double peakHeapMegaBytes;
+	}
+
+	@Setup(Level.Trial)
+	public void createConfig() throws IOException {
+		template = SyntheticTemplates.toJson(SyntheticTemplates.create(pages * ROWS_PER_PAGE, 4, 20, IMAGE_SHARE, false))
+				.getBytes(StandardCharsets.UTF_8);
+		config = new PdfGeneratorConfig();
+		config.setStorageMode(storageMode);
+		if (storageMode == PdfStorageMode.MIXED)
+			config.setMaxMainMemoryBytes(MIXED_MAX_MAIN_MEMORY_BYTES);
+	}
+
+	@Setup(Level.Invocation)
+	public void resetHeapUsage() {
+		heapUsedBefore = heapUsedAfterGc();
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+			if (pool.getType() == MemoryType.HEAP)
+				pool.resetPeakUsage();
+	}
+
+	@Benchmark
+	public void createPdf(HeapCounters counters) throws IOException {
+		try (PdfGenerator pdfGenerator = new PdfGenerator(config)) {
+			pdfGenerator.createPdf(new ByteArrayInputStream(template), "benchmark", new DiscardingOutputStream());
+			long peakHeapBytes = 0;
+			for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+				if (pool.getType() == MemoryType.HEAP)
+					peakHeapBytes += pool.getPeakUsage().getUsed();
+			counters.peakHeapMegaBytes = toMegaBytes(peakHeapBytes);
+			counters.documentHeapMegaBytes = toMegaBytes(heapUsedAfterGc() - heapUsedBefore);
+		}
+	}
+
+	private static long heapUsedAfterGc() {
+		System.gc();
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+	}
+
+	private static double toMegaBytes(long bytes) {
+		return bytes / (1024.0 * 1024.0);
+	}
+
+	private static final class DiscardingOutputStream extends OutputStream {
+
+		@Override
+		public void write(int b) {
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+		}
+	}
+}
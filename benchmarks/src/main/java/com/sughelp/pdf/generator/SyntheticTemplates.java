@@ -0,0 +1,118 @@
+package com.sughelp.pdf.generator;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Builds synthetic templates for the benchmarks. The content is generated from
+ * a fixed seed, so every run of a benchmark renders the same document.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+final class SyntheticTemplates {
+
+	private static final String[] WORDS = { "statement", "balance", "account", "transfer", "the", "of", "and",
+			"payment", "interest", "to", "credit", "a", "debit", "charges", "for", "period", "in", "closing" };
+
+	// length of the text of an overflowing cell. It is longer than a page, so the
+	// row is split across pages.
+	private static final int OVERFLOW_TEXT_LENGTH = 12000;
+	private static final int OVERFLOW_ROW_INTERVAL = 25;
+
+	private static File imageFile;
+
+	private SyntheticTemplates() {
+	}
+
+	/**
+	 * Creates a template with one table.
+	 *
+	 * @param rows
+	 *            number of rows in the table
+	 * @param columns
+	 *            number of columns per row
+	 * @param textLength
+	 *            length of the text of each text cell
+	 * @param imageShare
+	 *            share of the cells which contain an image, from 0 to 1
+	 * @param pageOverflow
+	 *            if true, every 25th row contains a cell longer than a page
+	 */
+	static Template create(int rows, int columns, int textLength, float imageShare, boolean pageOverflow)
+			throws IOException {
+		Random random = new Random(rows * 31L + columns);
+		String image = imageShare > 0 ? imageFile().getAbsolutePath() : null;
+		int imageInterval = imageShare > 0 ? Math.max(1, Math.round(1 / imageShare)) : 0;
+		List<Row> rowList = new ArrayList<>(rows);
+		for (int i = 0; i < rows; i++) {
+			Row row = new Row();
+			row.setIsHeader(i == 0);
+			row.setDrawBottomLine(true);
+			List<Column> columnList = new ArrayList<>(columns);
+			for (int j = 0; j < columns; j++) {
+				Column column = new Column();
+				column.setDrawVerticalLine(true);
+				if (i > 0 && imageInterval > 0 && (i * columns + j) % imageInterval == 0) {
+					column.setContentType("image");
+					column.setImageFile(image);
+					column.setImageWidth(20);
+					column.setImageHeight(20);
+				} else if (pageOverflow && j == 0 && i % OVERFLOW_ROW_INTERVAL == OVERFLOW_ROW_INTERVAL - 1)
+					column.setText(text(random, OVERFLOW_TEXT_LENGTH));
+				else
+					column.setText(text(random, textLength));
+				columnList.add(column);
+			}
+			row.setColumns(columnList);
+			rowList.add(row);
+		}
+		Table table = new Table();
+		table.setTotalColumnCount(columns);
+		table.setDrawBoundary(true);
+		table.setRows(rowList);
+		Template template = new Template();
+		template.setTables(new ArrayList<>(Arrays.asList(table)));
+		return template;
+	}
+
+	static String toJson(Template template) throws JsonProcessingException {
+		return new ObjectMapper().writeValueAsString(template);
+	}
+
+	static String text(Random random, int length) {
+		StringBuilder builder = new StringBuilder(length + 16);
+		while (builder.length() < length) {
+			if (builder.length() > 0)
+				builder.append(' ');
+			builder.append(WORDS[random.nextInt(WORDS.length)]);
+		}
+		builder.setLength(length);
+		return builder.toString();
+	}
+
+	private static synchronized File imageFile() throws IOException {
+		if (imageFile == null) {
+			BufferedImage image = new BufferedImage(200, 200, BufferedImage.TYPE_INT_RGB);
+			for (int x = 0; x < image.getWidth(); x++)
+				for (int y = 0; y < image.getHeight(); y++)
+					image.setRGB(x, y, (x << 16) | (y << 8) | ((x + y) & 0xff));
+			File file = File.createTempFile("pdf-generator-benchmark", ".png");
+			file.deleteOnExit();
+			ImageIO.write(image, "png", file);
+			imageFile = file;
+		}
+		return imageFile;
+	}
+}
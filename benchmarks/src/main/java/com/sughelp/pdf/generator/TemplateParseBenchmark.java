@@ -0,0 +1,67 @@
+package com.sughelp.pdf.generator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Parsing of a json template into a {@link Template}, with a new
+ * {@link ObjectMapper} per call as it was done before {@link TemplateReader}
+ * and with the shared reader from a String and from the encoded bytes.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateParseBenchmark {
+
+	@Param({ "10", "1000" })
+	public int rows;
+
+	@Param({ "30" })
+	public int textLength;
+
+	private String json;
+	private byte[] jsonBytes;
+
+	@Setup
+	public void createJson() throws IOException {
+		json = SyntheticTemplates.toJson(SyntheticTemplates.create(rows, 4, textLength, 0, false));
+		jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public Template objectMapperPerCall() throws IOException {
+		return new ObjectMapper().readValue(json, Template.class);
+	}
+
+	@Benchmark
+	public Template templateReader() throws IOException {
+		return TemplateReader.read(json);
+	}
+
+	@Benchmark
+	public Template templateReaderFromBytes() throws IOException {
+		return TemplateReader.read(jsonBytes);
+	}
+}
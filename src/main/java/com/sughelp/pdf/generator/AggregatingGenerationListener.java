@@ -0,0 +1,188 @@
+package com.sughelp.pdf.generator;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sughelp.pdf.generator.constants.GenerationPhase;
+
+/**
+ * A {@link GenerationListener} which aggregates the metrics of all the pdfs in
+ * memory, to report the percentiles of the time of each phase and the total
+ * counts, e.g. <code>listener.report()</code> at the end of a batch.<br>
+ * The times are counted in a histogram of fixed buckets instead of being kept,
+ * so the memory used does not grow with the number of pdfs. Each bucket is
+ * about 3% wide, so a percentile is exact to about 3%. The listener is thread
+ * safe and does not lock.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public class AggregatingGenerationListener implements GenerationListener {
+
+	private static final double[] REPORTED_PERCENTILES = { 50, 90, 99 };
+
+	private final Histogram[] phaseHistograms = new Histogram[GenerationPhase.values().length];
+	private final Histogram totalHistogram = new Histogram();
+	private final LongAdder documentCount = new LongAdder();
+	private final LongAdder pageCount = new LongAdder();
+	private final LongAdder rowCount = new LongAdder();
+	private final LongAdder lineCount = new LongAdder();
+	private final LongAdder imageCount = new LongAdder();
+	private final LongAdder byteCount = new LongAdder();
+
+	public AggregatingGenerationListener() {
+		for (int i = 0; i < phaseHistograms.length; i++)
+			phaseHistograms[i] = new Histogram();
+	}
+
+	@Override
+	public void documentGenerated(GenerationMetrics metrics) {
+		for (GenerationPhase phase : GenerationPhase.values())
+			phaseHistograms[phase.ordinal()].record(metrics.getNanos(phase));
+		totalHistogram.record(metrics.getTotalNanos());
+		documentCount.increment();
+		pageCount.add(metrics.getPageCount());
+		rowCount.add(metrics.getRowCount());
+		lineCount.add(metrics.getLineCount());
+		imageCount.add(metrics.getImageCount());
+		byteCount.add(metrics.getByteCount());
+	}
+
+	/**
+	 * The time of the phase in nano seconds which the given percentage of the
+	 * pdfs did not exceed, e.g. 99 for the 99th percentile. Zero if no pdf is
+	 * generated yet.
+	 */
+	public long getPercentileNanos(GenerationPhase phase, double percentile) {
+		return phaseHistograms[phase.ordinal()].getPercentile(percentile);
+	}
+
+	/**
+	 * The time of all the phases of a pdf in nano seconds which the given
+	 * percentage of the pdfs did not exceed.
+	 */
+	public long getTotalPercentileNanos(double percentile) {
+		return totalHistogram.getPercentile(percentile);
+	}
+
+	public long getDocumentCount() {
+		return documentCount.sum();
+	}
+
+	public long getPageCount() {
+		return pageCount.sum();
+	}
+
+	public long getRowCount() {
+		return rowCount.sum();
+	}
+
+	public long getLineCount() {
+		return lineCount.sum();
+	}
+
+	public long getImageCount() {
+		return imageCount.sum();
+	}
+
+	public long getByteCount() {
+		return byteCount.sum();
+	}
+
+	/**
+	 * The counts and the 50th, 90th and 99th percentiles and the max of the time
+	 * of each phase in milli seconds, one line per phase.
+	 */
+	public String report() {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format(Locale.ROOT, "documents = %d, pages = %d, rows = %d, lines = %d, images = %d, bytes = %d",
+				getDocumentCount(), getPageCount(), getRowCount(), getLineCount(), getImageCount(), getByteCount()));
+		for (GenerationPhase phase : GenerationPhase.values())
+			appendPercentiles(report, phase.name(), phaseHistograms[phase.ordinal()]);
+		appendPercentiles(report, "TOTAL", totalHistogram);
+		return report.toString();
+	}
+
+	/**
+	 * Forgets all the pdfs aggregated so far. The pdfs aggregated meanwhile by
+	 * other threads may be partly forgotten.
+	 */
+	public void reset() {
+		for (Histogram histogram : phaseHistograms)
+			histogram.reset();
+		totalHistogram.reset();
+		documentCount.reset();
+		pageCount.reset();
+		rowCount.reset();
+		lineCount.reset();
+		imageCount.reset();
+		byteCount.reset();
+	}
+
+	private static void appendPercentiles(StringBuilder report, String name, Histogram histogram) {
+		report.append(System.lineSeparator()).append(name).append(" ::");
+		for (double percentile : REPORTED_PERCENTILES)
+			report.append(String.format(Locale.ROOT, " p%.0f = %.3f ms,", percentile,
+					histogram.getPercentile(percentile) / 1e6));
+		report.append(String.format(Locale.ROOT, " max = %.3f ms", histogram.getPercentile(100) / 1e6));
+	}
+
+	/**
+	 * Counts of the values in buckets, which are exact up to 32 and then split
+	 * each power of two into 32 buckets of the same width.
+	 */
+	private static final class Histogram {
+
+		private static final int SUB_BUCKET_BITS = 5;
+		private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+		private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+		private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+		void record(long value) {
+			counts.incrementAndGet(bucket(Math.max(0, value)));
+		}
+
+		long getPercentile(double percentile) {
+			long total = 0;
+			for (int i = 0; i < BUCKETS; i++)
+				total += counts.get(i);
+			if (total == 0)
+				return 0;
+			long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+			long count = 0;
+			int bucket = 0;
+			for (; bucket < BUCKETS - 1; bucket++) {
+				count += counts.get(bucket);
+				if (count >= rank)
+					break;
+			}
+			return highestValue(bucket);
+		}
+
+		void reset() {
+			for (int i = 0; i < BUCKETS; i++)
+				counts.set(i, 0);
+		}
+
+		private static int bucket(long value) {
+			if (value < SUB_BUCKETS)
+				return (int) value;
+			int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+			int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+			return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+		}
+
+		// the highest value counted in the bucket
+		private static long highestValue(int bucket) {
+			if (bucket < SUB_BUCKETS)
+				return bucket;
+			int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+			long subBucket = bucket % SUB_BUCKETS;
+			long lowestValue = (1L << exponent) + (subBucket << (exponent - SUB_BUCKET_BITS));
+			return lowestValue + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+		}
+	}
+}
@@ -1,8 +1,5 @@
 package com.sughelp.pdf.generator;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import com.sughelp.pdf.generator.constants.PdfConstants;
 import com.sughelp.pdf.generator.constants.PdfErrorDescription;
 import com.sughelp.pdf.generator.constants.PdfTemplateDefaultValues;
@@ -37,9 +34,8 @@ public class Column {
 	private float lineThickness;
 	private boolean isBold;
 	private boolean isItalic;
+	private String fontName;
 	private float fontSize;
-	private List<String> textLines;
-	private float height;
 	private String horizontalGravity;
 	private String verticalGravity;
 
@@ -90,6 +86,22 @@ public class Column {
 		this.isItalic = isItalic;
 	}
 
+	public String getFontName() {
+		return fontName;
+	}
+
+	/**
+	 * Set the name of a font registered in the {@link FontRegistry}, to write the
+	 * text in that font instead of the default Times font. The bold and italic
+	 * flags do not apply to a registered font, e.g. register the bold variant of
+	 * the font with its own name and set that name. A header row is also written
+	 * in the font of the column.<br>
+	 * The font must be registered before the pdf is created.
+	 */
+	public void setFontName(String fontName) {
+		this.fontName = fontName;
+	}
+
 	public float getFontSize() {
 		if (fontSize == 0)
 			return PdfTemplateDefaultValues.TEXT_FONT_SIZE.getFloatValue();
@@ -160,31 +172,6 @@ public class Column {
 		this.textColorComponents = textColorComponents;
 	}
 
-	List<String> getTextLines() {
-		return textLines;
-	}
-
-	void setTextLines(List<String> textLines) {
-		this.textLines = textLines;
-	}
-
-	void removeTextLines(int endIndex) {
-		if (textLines != null) {
-			List<String> tempList = new ArrayList<>();
-			for (int i = 0; i < endIndex; i++)
-				tempList.add(textLines.get(i));
-			textLines.removeAll(tempList);
-		}
-	}
-
-	float getHeight() {
-		return height;
-	}
-
-	void setHeight(float height) {
-		this.height = height;
-	}
-
 	public String getContentType() {
 		if (contentType == null)
 			return PdfConstants.CONTENT_TYPE_TEXT.getValue();
@@ -323,9 +310,25 @@ public class Column {
 		this.verticalGravity = verticalGravity;
 	}
 
-	void resetImage() {
-		this.imageFile = null;
-		this.imageUrl = null;
-		this.contentType = null;
+	// copy of the properties set in the template
+	Column copy() {
+		Column column = new Column();
+		column.contentType = contentType;
+		column.text = text;
+		column.imageUrl = imageUrl;
+		column.imageFile = imageFile;
+		column.imageWidth = imageWidth;
+		column.imageHeight = imageHeight;
+		column.textColorComponents = textColorComponents == null ? null : textColorComponents.clone();
+		column.drawVerticalLine = drawVerticalLine;
+		column.lineColorComponents = lineColorComponents == null ? null : lineColorComponents.clone();
+		column.lineThickness = lineThickness;
+		column.isBold = isBold;
+		column.isItalic = isItalic;
+		column.fontName = fontName;
+		column.fontSize = fontSize;
+		column.horizontalGravity = horizontalGravity;
+		column.verticalGravity = verticalGravity;
+		return column;
 	}
 }
@@ -0,0 +1,98 @@
+package com.sughelp.pdf.generator;
+
+import com.sughelp.pdf.generator.constants.PdfConstants;
+
+/**
+ * The layout state of a column while a pdf is created, i.e. the text lines
+ * which are not written yet, the height of the column and the size of its
+ * image. The {@link Column} itself is only read.<br>
+ * A column layout is reset for the column of each row, so its lines are
+ * reused from row to row.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+final class ColumnLayout {
+
+	private final TextLines textLines = new TextLines();
+	private Column column;
+	private FontMetrics fontMetrics;
+	private FontMetrics rowHeightFontMetrics;
+	private float height;
+	private float imageWidth;
+	private boolean image;
+
+	/**
+	 * Starts the layout of the column. The text lines are split afterwards into
+	 * {@link #getTextLines()}.
+	 *
+	 * @param fontMetrics
+	 *            The font of the text of the column
+	 */
+	void reset(Column column, FontMetrics fontMetrics) {
+		this.column = column;
+		this.fontMetrics = fontMetrics;
+		// the height of a row is calculated with the font the column would have
+		// in a row which is not a header, which differs only for the standard
+		// fonts, so the registry is not looked up again
+		rowHeightFontMetrics = column.getFontName() != null ? fontMetrics : FontMetrics.of(column, false);
+		textLines.reset("");
+		height = 0;
+		imageWidth = column.getImageWidth();
+		image = column.getContentType().equals(PdfConstants.CONTENT_TYPE_IMAGE.getValue());
+	}
+
+	Column getColumn() {
+		return column;
+	}
+
+	FontMetrics getFontMetrics() {
+		return fontMetrics;
+	}
+
+	/**
+	 * The font whose cap height is used for the height of the row.
+	 */
+	FontMetrics getRowHeightFontMetrics() {
+		return rowHeightFontMetrics;
+	}
+
+	/**
+	 * The text lines of the column which are not written yet.
+	 */
+	TextLines getTextLines() {
+		return textLines;
+	}
+
+	float getHeight() {
+		return height;
+	}
+
+	void setHeight(float height) {
+		this.height = height;
+	}
+
+	float getImageWidth() {
+		return imageWidth;
+	}
+
+	void setImageWidth(float imageWidth) {
+		this.imageWidth = imageWidth;
+	}
+
+	/**
+	 * Whether the column still has an image to draw.
+	 */
+	boolean isImage() {
+		return image;
+	}
+
+	/**
+	 * Once the image is drawn, it is not drawn again if the row continues in a
+	 * new page. The column is then laid out as a text column.
+	 */
+	void imageDrawn() {
+		image = false;
+	}
+}
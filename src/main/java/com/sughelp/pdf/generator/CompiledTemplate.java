@@ -0,0 +1,334 @@
+package com.sughelp.pdf.generator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sughelp.pdf.generator.constants.PdfErrorDescription;
+import com.sughelp.pdf.generator.exception.PdfTemplateException;
+
+/**
+ * A template which is read and validated once and used for many pdfs, which
+ * differ only by some values. The values are marked in the template by
+ * placeholders like <b>${customer.name}</b> in the text, image url or image file
+ * of the columns. A placeholder can be a part of the value, e.g. <b>"Dear
+ * ${name},"</b>.<br>
+ * The table properties are validated, the widths of the tables and of their
+ * columns are calculated and the fonts of the columns are resolved when the
+ * template is compiled, so creating a pdf only binds the values to the
+ * placeholders. A font name which is not registered fails the compilation. Please refer
+ * {@link PdfGenerator#createPdf(CompiledTemplate, Object, String, java.io.OutputStream)}.
+ * <br>
+ * A compiled template is immutable, so it can be cached and shared by all the
+ * threads. Later changes to the template it was compiled from have no effect
+ * on it.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public final class CompiledTemplate {
+
+	private static final ObjectMapper VALUE_MAPPER = new ObjectMapper();
+
+	private static final String PLACEHOLDER_START = "${";
+	private static final String PLACEHOLDER_END = "}";
+
+	// the template properties without the tables
+	private final Template template;
+	private final List<CompiledTable> tables;
+	private final Set<String> placeholders;
+
+	private CompiledTemplate(Template template, List<CompiledTable> tables, Set<String> placeholders) {
+		this.template = template;
+		this.tables = tables;
+		this.placeholders = placeholders;
+	}
+
+	/**
+	 * Compiles the template.
+	 *
+	 * @param template
+	 *            The template with the placeholders
+	 * @throws PdfTemplateException
+	 *             if the template is not set with proper value or a font name is
+	 *             not registered
+	 */
+	public static CompiledTemplate compile(Template template) {
+		Set<String> placeholders = new LinkedHashSet<>();
+		List<CompiledTable> tables = new ArrayList<>(template.getTables().size());
+		for (Table table : template.getTables())
+			tables.add(new CompiledTable(table, placeholders));
+		return new CompiledTemplate(template.copy(), tables, Collections.unmodifiableSet(placeholders));
+	}
+
+	/**
+	 * Compiles the template. Here the template is a String content.
+	 *
+	 * @param template
+	 *            The json content of the template with the placeholders
+	 * @throws IOException
+	 * @throws PdfTemplateException
+	 *             if the template is not set with proper value
+	 */
+	public static CompiledTemplate compile(String template) throws IOException {
+		return compile(TemplateReader.read(template));
+	}
+
+	/**
+	 * The names of all the placeholders in the template, in the order they are
+	 * found in it.
+	 */
+	public Set<String> getPlaceholders() {
+		return placeholders;
+	}
+
+	/**
+	 * Creates the template of one pdf, with the values bound to the placeholders.
+	 * The tables, rows and columns without placeholders are shared with the
+	 * compiled template, as the generator does not modify the template.
+	 *
+	 * @param values
+	 *            A {@link Map} or a bean with the values. A placeholder with dots
+	 *            refers to a nested value, e.g. <b>${customer.name}</b> is the
+	 *            value <b>name</b> of the value <b>customer</b>, unless there is
+	 *            a value with the whole name. Beans are converted to maps with
+	 *            Jackson.
+	 * @throws PdfTemplateException
+	 *             if there is no value for a placeholder
+	 */
+	Template bind(Object values) {
+		Values boundValues = new Values(values);
+		Template boundTemplate = template.copy();
+		List<Table> boundTables = new ArrayList<>(tables.size());
+		for (CompiledTable table : tables)
+			boundTables.add(table.bind(boundValues));
+		boundTemplate.setTables(boundTables);
+		return boundTemplate;
+	}
+
+	TableGeometry getTableGeometry(int tableIndex) {
+		return tables.get(tableIndex).geometry;
+	}
+
+	/**
+	 * The font metrics of the columns of the row, by column index. The values
+	 * bound to the placeholders do not change the fonts, so they are the same
+	 * for all the pdfs.
+	 */
+	FontMetrics[] getFontMetrics(int tableIndex, int rowIndex) {
+		return tables.get(tableIndex).rows.get(rowIndex).fontMetrics;
+	}
+
+	private static final class CompiledTable {
+
+		// the table with the compiled rows, which is used as it is if it has no
+		// placeholders
+		private final Table table;
+		private final TableGeometry geometry;
+		private final List<CompiledRow> rows;
+		private final boolean hasPlaceholders;
+
+		CompiledTable(Table table, Set<String> placeholders) {
+			geometry = TableGeometry.of(table, PdfGenerator.PAGE_SIZE.getWidth());
+			if (table.getRows() == null)
+				throw new PdfTemplateException(PdfErrorDescription.NO_ROWS_DEFINED.getErrorDescription());
+			rows = new ArrayList<>(table.getRows().size());
+			List<Row> compiledRows = new ArrayList<>(table.getRows().size());
+			boolean rowHasPlaceholders = false;
+			for (Row row : table.getRows()) {
+				CompiledRow compiledRow = new CompiledRow(row, placeholders);
+				rows.add(compiledRow);
+				compiledRows.add(compiledRow.row);
+				rowHasPlaceholders |= compiledRow.hasPlaceholders;
+			}
+			hasPlaceholders = rowHasPlaceholders;
+			this.table = table.copy();
+			this.table.setRows(Collections.unmodifiableList(compiledRows));
+		}
+
+		Table bind(Values values) {
+			if (!hasPlaceholders)
+				return table;
+			Table boundTable = table.copy();
+			List<Row> boundRows = new ArrayList<>(rows.size());
+			for (CompiledRow row : rows)
+				boundRows.add(row.bind(values));
+			boundTable.setRows(boundRows);
+			return boundTable;
+		}
+	}
+
+	private static final class CompiledRow {
+
+		// the row with the compiled columns, which is used as it is if it has no
+		// placeholders
+		private final Row row;
+		private final List<CompiledColumn> columns;
+		// the font of each column, resolved with the header flag of the row
+		private final FontMetrics[] fontMetrics;
+		private final boolean hasPlaceholders;
+
+		CompiledRow(Row row, Set<String> placeholders) {
+			if (row.getColumns() == null)
+				throw new PdfTemplateException(PdfErrorDescription.NO_COLUMNS_DEFINED.getErrorDescription());
+			columns = new ArrayList<>(row.getColumns().size());
+			fontMetrics = new FontMetrics[row.getColumns().size()];
+			List<Column> compiledColumns = new ArrayList<>(row.getColumns().size());
+			boolean columnHasPlaceholders = false;
+			for (Column column : row.getColumns()) {
+				CompiledColumn compiledColumn = new CompiledColumn(column, placeholders);
+				fontMetrics[columns.size()] = FontMetrics.of(column, row.getIsHeader());
+				columns.add(compiledColumn);
+				compiledColumns.add(compiledColumn.column);
+				columnHasPlaceholders |= compiledColumn.hasPlaceholders();
+			}
+			hasPlaceholders = columnHasPlaceholders;
+			this.row = row.copy();
+			this.row.setColumns(Collections.unmodifiableList(compiledColumns));
+		}
+
+		Row bind(Values values) {
+			if (!hasPlaceholders)
+				return row;
+			Row boundRow = row.copy();
+			List<Column> boundColumns = new ArrayList<>(columns.size());
+			for (CompiledColumn column : columns)
+				boundColumns.add(column.bind(values));
+			boundRow.setColumns(boundColumns);
+			return boundRow;
+		}
+	}
+
+	private static final class CompiledColumn {
+
+		private final Column column;
+		private final PlaceholderText text;
+		private final PlaceholderText imageUrl;
+		private final PlaceholderText imageFile;
+
+		CompiledColumn(Column column, Set<String> placeholders) {
+			this.column = column.copy();
+			text = PlaceholderText.parse(column.getText(), placeholders);
+			imageUrl = PlaceholderText.parse(column.getImageUrl(), placeholders);
+			imageFile = PlaceholderText.parse(column.getImageFile(), placeholders);
+		}
+
+		boolean hasPlaceholders() {
+			return text.hasPlaceholders() || imageUrl.hasPlaceholders() || imageFile.hasPlaceholders();
+		}
+
+		Column bind(Values values) {
+			if (!hasPlaceholders())
+				return column;
+			Column boundColumn = column.copy();
+			boundColumn.setText(text.bind(values));
+			boundColumn.setImageUrl(imageUrl.bind(values));
+			boundColumn.setImageFile(imageFile.bind(values));
+			return boundColumn;
+		}
+	}
+
+	/**
+	 * A value of the template split at its placeholders.
+	 */
+	private static final class PlaceholderText {
+
+		private static final PlaceholderText NONE = new PlaceholderText(null, null, null);
+
+		// the value itself if it has no placeholders
+		private final String value;
+		// the text before, between and after the placeholders
+		private final String[] literals;
+		private final String[] names;
+
+		private PlaceholderText(String value, String[] literals, String[] names) {
+			this.value = value;
+			this.literals = literals;
+			this.names = names;
+		}
+
+		static PlaceholderText parse(String value, Set<String> placeholders) {
+			if (value == null)
+				return NONE;
+			List<String> literals = new ArrayList<>();
+			List<String> names = new ArrayList<>();
+			// start of the text before the next placeholder
+			int index = 0;
+			int start = value.indexOf(PLACEHOLDER_START);
+			while (start >= 0) {
+				int end = value.indexOf(PLACEHOLDER_END, start + PLACEHOLDER_START.length());
+				// a placeholder without an end is kept as text
+				if (end < 0)
+					break;
+				// the text before a nested start is kept as text
+				start = value.lastIndexOf(PLACEHOLDER_START, end);
+				// a placeholder without a name is kept as text
+				if (end > start + PLACEHOLDER_START.length()) {
+					literals.add(value.substring(index, start));
+					names.add(value.substring(start + PLACEHOLDER_START.length(), end));
+					index = end + PLACEHOLDER_END.length();
+				}
+				start = value.indexOf(PLACEHOLDER_START, end + PLACEHOLDER_END.length());
+			}
+			if (names.isEmpty())
+				return new PlaceholderText(value, null, null);
+			literals.add(value.substring(index));
+			placeholders.addAll(names);
+			return new PlaceholderText(null, literals.toArray(new String[literals.size()]),
+					names.toArray(new String[names.size()]));
+		}
+
+		boolean hasPlaceholders() {
+			return names != null;
+		}
+
+		String bind(Values values) {
+			if (names == null)
+				return value;
+			StringBuilder boundValue = new StringBuilder(literals[0]);
+			for (int i = 0; i < names.length; i++)
+				boundValue.append(values.get(names[i])).append(literals[i + 1]);
+			return boundValue.toString();
+		}
+	}
+
+	/**
+	 * The values bound to the placeholders of one pdf.
+	 */
+	private static final class Values {
+
+		private final Map<?, ?> values;
+
+		Values(Object values) {
+			if (values == null)
+				this.values = Collections.emptyMap();
+			else if (values instanceof Map)
+				this.values = (Map<?, ?>) values;
+			else
+				this.values = VALUE_MAPPER.convertValue(values, Map.class);
+		}
+
+		String get(String name) {
+			if (values.containsKey(name))
+				return format(values.get(name));
+			Object value = values;
+			for (String key : name.split("\\.")) {
+				if (!(value instanceof Map) || !((Map<?, ?>) value).containsKey(key))
+					throw new PdfTemplateException(
+							PdfErrorDescription.PLACEHOLDER_NOT_BOUND.getErrorDescription() + " :: " + name);
+				value = ((Map<?, ?>) value).get(key);
+			}
+			return format(value);
+		}
+
+		private static String format(Object value) {
+			return value == null ? "" : value.toString();
+		}
+	}
+}
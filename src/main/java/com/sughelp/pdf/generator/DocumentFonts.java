@@ -0,0 +1,72 @@
+package com.sughelp.pdf.generator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fonts of one document. A font of the {@link FontRegistry} is loaded in the
+ * document when it is first used, from the TrueType font parsed when it was
+ * registered, so the font file is not read again. Only the glyphs used in the
+ * document are embedded, when the document is saved.<br>
+ * The fonts are bound to the document, so they must not be shared between
+ * documents.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+final class DocumentFonts {
+
+	private static final Logger logger = LoggerFactory.getLogger(DocumentFonts.class);
+
+	private final PDDocument pdfDoc;
+	private final Map<FontMetrics, PDFont> fonts = new IdentityHashMap<>();
+
+	DocumentFonts(PDDocument pdfDoc) {
+		this.pdfDoc = pdfDoc;
+	}
+
+	/**
+	 * The font of the metrics in this document. A standard font is same in all
+	 * the documents.
+	 *
+	 * @throws IOException
+	 *             if the font does not permit embedding
+	 */
+	PDFont getFont(FontMetrics fontMetrics) throws IOException {
+		if (fontMetrics.getFont() != null)
+			return fontMetrics.getFont();
+		PDFont font = fonts.get(fontMetrics);
+		if (font == null) {
+			font = PDType0Font.load(pdfDoc, fontMetrics.getTrueTypeFont(), true);
+			addToFontsToSubset(font);
+			fonts.put(fontMetrics, font);
+			logger.debug("font {} loaded in the document", font.getName());
+		}
+		return font;
+	}
+
+	// a content stream adds the font to the fonts which the document subsets
+	// when it is saved. It is done here with an unused content stream when the
+	// font is loaded, so the font is subset even if no text is written in it.
+	private void addToFontsToSubset(PDFont font) throws IOException {
+		PDFormXObject form = new PDFormXObject(new COSStream());
+		form.setResources(new PDResources());
+		try (PDPageContentStream contentStream = new PDPageContentStream(pdfDoc, form,
+				new ByteArrayOutputStream())) {
+			contentStream.setFont(font, 1);
+		}
+	}
+}
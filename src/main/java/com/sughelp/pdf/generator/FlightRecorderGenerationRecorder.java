@@ -0,0 +1,224 @@
+package com.sughelp.pdf.generator;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Records the phases of the generation of a pdf as JDK Flight Recorder events,
+ * under the category <b>Sughelp PDF Generator</b>, so a recording shows which
+ * pdf, table and phase a slow generation spends its time in. An event is
+ * only created when its type is enabled, i.e. when a recording enabling it is
+ * running, so otherwise each event costs only a check of its type. A
+ * document, table or page which started before its type was enabled is not
+ * recorded.<br>
+ * It is loaded by {@link GenerationRecorder#create()} only when the JVM has the
+ * Flight Recorder API, so no other class may refer to it.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+final class FlightRecorderGenerationRecorder extends GenerationRecorder {
+
+	private static final EventType DOCUMENT_EVENT_TYPE = EventType.getEventType(DocumentEvent.class);
+	private static final EventType TABLE_EVENT_TYPE = EventType.getEventType(TableEvent.class);
+	private static final EventType PAGE_EVENT_TYPE = EventType.getEventType(PageEvent.class);
+	private static final EventType IMAGE_LOAD_EVENT_TYPE = EventType.getEventType(ImageLoadEvent.class);
+	private static final EventType SAVE_EVENT_TYPE = EventType.getEventType(SaveEvent.class);
+
+	private DocumentEvent documentEvent;
+	private TableEvent tableEvent;
+	private PageEvent pageEvent;
+	private ImageLoadEvent imageLoadEvent;
+	private SaveEvent saveEvent;
+
+	@Override
+	void beginDocument() {
+		if (!DOCUMENT_EVENT_TYPE.isEnabled())
+			return;
+		documentEvent = new DocumentEvent();
+		documentEvent.begin();
+	}
+
+	@Override
+	void endDocument(GenerationMetrics metrics) {
+		if (documentEvent == null)
+			return;
+		documentEvent.end();
+		if (documentEvent.shouldCommit()) {
+			documentEvent.templateId = metrics.getFileName();
+			documentEvent.pageCount = metrics.getPageCount();
+			documentEvent.rowCount = metrics.getRowCount();
+			documentEvent.lineCount = metrics.getLineCount();
+			documentEvent.imageCount = metrics.getImageCount();
+			documentEvent.byteCount = metrics.getByteCount();
+			documentEvent.commit();
+		}
+		documentEvent = null;
+	}
+
+	@Override
+	void beginTable() {
+		if (!TABLE_EVENT_TYPE.isEnabled())
+			return;
+		tableEvent = new TableEvent();
+		tableEvent.begin();
+	}
+
+	@Override
+	void endTable(int tableNumber, int rowCount) {
+		if (tableEvent == null)
+			return;
+		tableEvent.tableNumber = tableNumber;
+		tableEvent.rowCount = rowCount;
+		tableEvent.commit();
+		tableEvent = null;
+	}
+
+	@Override
+	void beginPage(int pageNumber) {
+		if (!PAGE_EVENT_TYPE.isEnabled())
+			return;
+		pageEvent = new PageEvent();
+		pageEvent.pageNumber = pageNumber;
+		pageEvent.begin();
+	}
+
+	@Override
+	void endPage() {
+		if (pageEvent == null)
+			return;
+		pageEvent.commit();
+		pageEvent = null;
+	}
+
+	@Override
+	void beginImageLoad() {
+		if (!IMAGE_LOAD_EVENT_TYPE.isEnabled())
+			return;
+		imageLoadEvent = new ImageLoadEvent();
+		imageLoadEvent.begin();
+	}
+
+	@Override
+	void endImageLoad(String source, boolean loaded) {
+		if (imageLoadEvent == null)
+			return;
+		imageLoadEvent.source = source;
+		imageLoadEvent.loaded = loaded;
+		imageLoadEvent.commit();
+		imageLoadEvent = null;
+	}
+
+	@Override
+	void beginSave() {
+		if (!SAVE_EVENT_TYPE.isEnabled())
+			return;
+		saveEvent = new SaveEvent();
+		saveEvent.begin();
+	}
+
+	@Override
+	void endSave(long byteCount) {
+		if (saveEvent == null)
+			return;
+		saveEvent.byteCount = byteCount;
+		saveEvent.commit();
+		saveEvent = null;
+	}
+
+	@Override
+	void reset() {
+		documentEvent = null;
+		tableEvent = null;
+		pageEvent = null;
+		imageLoadEvent = null;
+		saveEvent = null;
+	}
+
+	@Name("com.sughelp.pdf.Document")
+	@Label("PDF Document")
+	@Description("Creation of a pdf, from the parsing of its template till it is saved")
+	@Category({ "Sughelp", "PDF Generator" })
+	@StackTrace(false)
+	static final class DocumentEvent extends Event {
+
+		@Label("Template Id")
+		@Description("The file name of the pdf, as set in its meta data")
+		String templateId;
+
+		@Label("Pages")
+		int pageCount;
+
+		@Label("Rows")
+		long rowCount;
+
+		@Label("Lines")
+		long lineCount;
+
+		@Label("Images")
+		long imageCount;
+
+		@Label("Size")
+		@DataAmount(DataAmount.BYTES)
+		long byteCount;
+	}
+
+	@Name("com.sughelp.pdf.Table")
+	@Label("PDF Table")
+	@Description("Layout of the rows of a table")
+	@Category({ "Sughelp", "PDF Generator" })
+	@StackTrace(false)
+	static final class TableEvent extends Event {
+
+		@Label("Table Number")
+		int tableNumber;
+
+		@Label("Rows")
+		int rowCount;
+	}
+
+	@Name("com.sughelp.pdf.Page")
+	@Label("PDF Page")
+	@Description("Layout of a page, on the thread creating the pdf")
+	@Category({ "Sughelp", "PDF Generator" })
+	@StackTrace(false)
+	static final class PageEvent extends Event {
+
+		@Label("Page Number")
+		int pageNumber;
+	}
+
+	@Name("com.sughelp.pdf.ImageLoad")
+	@Label("PDF Image Load")
+	@Description("Loading the image of a cell, from the images of the document, the prefetched images, the file or the url")
+	@Category({ "Sughelp", "PDF Generator" })
+	@StackTrace(false)
+	static final class ImageLoadEvent extends Event {
+
+		@Label("Source")
+		@Description("The image file or url")
+		String source;
+
+		@Label("Loaded")
+		boolean loaded;
+	}
+
+	@Name("com.sughelp.pdf.Save")
+	@Label("PDF Save")
+	@Description("Writing the pdf to the file, the byte array or the stream")
+	@Category({ "Sughelp", "PDF Generator" })
+	@StackTrace(false)
+	static final class SaveEvent extends Event {
+
+		@Label("Size")
+		@DataAmount(DataAmount.BYTES)
+		long byteCount;
+	}
+}
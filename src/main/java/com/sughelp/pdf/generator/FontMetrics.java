@@ -0,0 +1,202 @@
+package com.sughelp.pdf.generator;
+
+import java.awt.geom.GeneralPath;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.apache.fontbox.ttf.CmapLookup;
+import org.apache.fontbox.ttf.HorizontalMetricsTable;
+import org.apache.fontbox.ttf.OS2WindowsMetricsTable;
+import org.apache.fontbox.ttf.TrueTypeFont;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDSimpleFont;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.encoding.GlyphList;
+
+import com.sughelp.pdf.generator.exception.PdfTemplateException;
+
+/**
+ * Immutable width metrics of a font used by the generator. The advance width
+ * of every character which can be encoded in the font is computed once per JVM
+ * and stored in a primitive array indexed by the character, so measuring text
+ * does not go through the map based metrics of PDFBox.<br>
+ * The widths are in glyph space units (1/1000 of the font size), same as
+ * {@link PDFont#getWidth(int)}.<br>
+ * The metrics of a font of the {@link FontRegistry} are computed from the
+ * parsed TrueType font when it is registered. Such a font is embedded in each
+ * document by {@link DocumentFonts}, so it has no {@link PDFont} of its own.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+final class FontMetrics {
+
+	static final FontMetrics TIMES_ROMAN = load(PDType1Font.TIMES_ROMAN);
+	static final FontMetrics TIMES_BOLD = load(PDType1Font.TIMES_BOLD);
+	static final FontMetrics TIMES_ITALIC = load(PDType1Font.TIMES_ITALIC);
+	static final FontMetrics TIMES_BOLD_ITALIC = load(PDType1Font.TIMES_BOLD_ITALIC);
+
+	private final String name;
+	// null for a registered TrueType font
+	private final PDFont font;
+	// null for a standard font
+	private final TrueTypeFont trueTypeFont;
+	// advance width indexed by character. NaN if the character can not be
+	// encoded in the font.
+	private final float[] advances;
+	private final float capHeight;
+
+	private FontMetrics(String name, PDFont font, TrueTypeFont trueTypeFont, float[] advances, float capHeight) {
+		this.name = name;
+		this.font = font;
+		this.trueTypeFont = trueTypeFont;
+		this.advances = advances;
+		this.capHeight = capHeight;
+	}
+
+	/**
+	 * The metrics of the font in which the text of the column is written. All the
+	 * text of a header row is bold, unless the column has a registered font.
+	 *
+	 * @throws PdfTemplateException
+	 *             if the font name of the column is not registered
+	 */
+	static FontMetrics of(Column column, boolean isHeaderRow) {
+		if (column.getFontName() != null)
+			return FontRegistry.getFontMetrics(column.getFontName());
+		else if (isHeaderRow)
+			return TIMES_BOLD;
+		else if (column.getIsBold() && column.getIsItalic())
+			return TIMES_BOLD_ITALIC;
+		else if (column.getIsBold())
+			return TIMES_BOLD;
+		else if (column.getIsItalic())
+			return TIMES_ITALIC;
+		else
+			return TIMES_ROMAN;
+	}
+
+	/**
+	 * The standard font, or null if it is a registered TrueType font, which is
+	 * embedded per document. Please refer {@link DocumentFonts#getFont}.
+	 */
+	PDFont getFont() {
+		return font;
+	}
+
+	TrueTypeFont getTrueTypeFont() {
+		return trueTypeFont;
+	}
+
+	float getCapHeight() {
+		return capHeight;
+	}
+
+	/**
+	 * Advance width of the character in glyph space units.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the character is not available in the font
+	 */
+	float getAdvance(char c) {
+		if (c < advances.length) {
+			float advance = advances[c];
+			if (advance == advance)
+				return advance;
+		}
+		throw new IllegalArgumentException(
+				String.format("U+%04X is not available in this font %s", (int) c, name));
+	}
+
+	/**
+	 * Width of the text in glyph space units. It is same as
+	 * {@link PDFont#getStringWidth(String)}.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if any character is not available in the font
+	 */
+	float getStringWidth(String text) {
+		return getStringWidth(text, 0, text.length());
+	}
+
+	/**
+	 * Width of the part of the text from <code>start</code> to
+	 * <code>end</code> (exclusive) in glyph space units, without copying it.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if any character is not available in the font
+	 */
+	float getStringWidth(String text, int start, int end) {
+		float width = 0;
+		for (int i = start; i < end; i++)
+			width += getAdvance(text.charAt(i));
+		return width;
+	}
+
+	private static FontMetrics load(PDSimpleFont font) {
+		try {
+			GlyphList glyphList = GlyphList.getAdobeGlyphList();
+			int[] characters = new int[font.getEncoding().getCodeToNameMap().size()];
+			int count = 0;
+			int maxCharacter = 0;
+			for (String name : font.getEncoding().getCodeToNameMap().values()) {
+				String unicode = glyphList.toUnicode(name);
+				if (unicode != null && unicode.length() == 1) {
+					characters[count++] = unicode.charAt(0);
+					maxCharacter = Math.max(maxCharacter, unicode.charAt(0));
+				}
+			}
+			float[] advances = new float[maxCharacter + 1];
+			Arrays.fill(advances, Float.NaN);
+			for (int i = 0; i < count; i++) {
+				char c = (char) characters[i];
+				try {
+					// measured through the font itself, so the width is exactly the one
+					// PDFBox would use for the encoded character
+					advances[c] = font.getStringWidth(String.valueOf(c));
+				} catch (IllegalArgumentException e) {
+					// the glyph name is in the encoding but the character does not map to it
+				}
+			}
+			return new FontMetrics(font.getName(), font, null, advances, font.getFontDescriptor().getCapHeight());
+		} catch (IOException e) {
+			throw new IllegalStateException("unable to load metrics of font " + font.getName(), e);
+		}
+	}
+
+	/**
+	 * Metrics of a parsed TrueType font. The widths are rounded the same as the
+	 * widths written for the font when it is embedded, so the text is measured
+	 * exactly as the pdf viewer will place it.
+	 */
+	static FontMetrics load(TrueTypeFont trueTypeFont) throws IOException {
+		// same lookup as used to encode the text of the embedded font
+		CmapLookup cmapLookup = trueTypeFont.getUnicodeCmapLookup(false);
+		HorizontalMetricsTable horizontalMetrics = trueTypeFont.getHorizontalMetrics();
+		float scale = 1000f / trueTypeFont.getUnitsPerEm();
+		float[] advances = new float[Character.MAX_VALUE + 1];
+		Arrays.fill(advances, Float.NaN);
+		int maxCharacter = 0;
+		for (int c = 0; c <= Character.MAX_VALUE; c++) {
+			int glyphId = cmapLookup.getGlyphId(c);
+			if (glyphId != 0) {
+				advances[c] = Math.round(horizontalMetrics.getAdvanceWidth(glyphId) * scale);
+				maxCharacter = c;
+			}
+		}
+		// same cap height as PDFBox writes in the font descriptor. It is in the
+		// OS/2 table only from its version 2, otherwise it is the height of H.
+		OS2WindowsMetricsTable os2 = trueTypeFont.getOS2Windows();
+		GeneralPath capitalH;
+		float capHeight;
+		if (os2 != null && os2.getVersion() >= 2)
+			capHeight = os2.getCapHeight() * scale;
+		else if ((capitalH = trueTypeFont.getPath("H")) != null)
+			capHeight = (float) capitalH.getBounds2D().getMaxY() * scale;
+		else
+			capHeight = trueTypeFont.getHorizontalHeader().getAscender() * scale;
+		return new FontMetrics(trueTypeFont.getName(), null, trueTypeFont, Arrays.copyOf(advances, maxCharacter + 1),
+				capHeight);
+	}
+}
@@ -0,0 +1,104 @@
+package com.sughelp.pdf.generator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.fontbox.ttf.TTFParser;
+import org.apache.fontbox.ttf.TrueTypeFont;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sughelp.pdf.generator.constants.PdfErrorDescription;
+import com.sughelp.pdf.generator.exception.PdfTemplateException;
+
+/**
+ * TrueType fonts which can be used by the columns of a template, by the name
+ * with which they are registered. Please refer {@link Column#setFontName}. The
+ * registry is shared by all the generators of the JVM.<br>
+ * A font file is read and parsed only once, when it is registered, and its
+ * character widths are calculated then. The parsed font is shared by all the
+ * documents and threads. Each document embeds only the subset of the glyphs
+ * of the characters it uses, so the font can cover many scripts without making
+ * every pdf large.<br>
+ * The font must allow embedding. Characters outside the basic multilingual
+ * plane are not supported.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public final class FontRegistry {
+
+	private static final Logger logger = LoggerFactory.getLogger(FontRegistry.class);
+
+	private static final ConcurrentHashMap<String, FontMetrics> fonts = new ConcurrentHashMap<>();
+
+	private FontRegistry() {
+	}
+
+	/**
+	 * Registers the TrueType font file with the given name. A font registered
+	 * again with the same name replaces the previous one for the documents
+	 * created afterwards.
+	 *
+	 * @param name
+	 *            The name by which the columns refer to the font, e.g.
+	 *            <b>"NotoSans"</b>
+	 * @param fontFile
+	 *            The path of the .ttf file
+	 * @throws IOException
+	 *             if the file can not be read or is not a TrueType font
+	 * @throws PdfTemplateException
+	 *             if the name is empty
+	 */
+	public static void register(String name, String fontFile) throws IOException {
+		try (InputStream inputStream = Files.newInputStream(Paths.get(fontFile))) {
+			register(name, inputStream);
+		}
+	}
+
+	/**
+	 * Registers the TrueType font read from the stream with the given name, e.g.
+	 * a font bundled in the classpath. The stream is read fully but not closed.
+	 *
+	 * @param name
+	 *            The name by which the columns refer to the font
+	 * @param fontStream
+	 *            The content of the .ttf file
+	 * @throws IOException
+	 *             if the stream can not be read or is not a TrueType font
+	 * @throws PdfTemplateException
+	 *             if the name is empty
+	 */
+	public static void register(String name, InputStream fontStream) throws IOException {
+		if (name == null || name.isEmpty())
+			throw new PdfTemplateException(PdfErrorDescription.INVALID_FONT_NAME.getErrorDescription());
+		// all the tables are parsed now, so the font is only read afterwards
+		TrueTypeFont trueTypeFont = new TTFParser(false, false).parse(fontStream);
+		fonts.put(name, FontMetrics.load(trueTypeFont));
+		logger.info("font registered :: {} ({})", name, trueTypeFont.getName());
+	}
+
+	/**
+	 * Whether a font is registered with the given name.
+	 */
+	public static boolean isRegistered(String name) {
+		return name != null && fonts.containsKey(name);
+	}
+
+	/**
+	 * The metrics of the registered font.
+	 *
+	 * @throws PdfTemplateException
+	 *             if no font is registered with the name
+	 */
+	static FontMetrics getFontMetrics(String name) {
+		FontMetrics fontMetrics = fonts.get(name);
+		if (fontMetrics == null)
+			throw new PdfTemplateException(PdfErrorDescription.FONT_NOT_REGISTERED.getErrorDescription() + " :: " + name);
+		return fontMetrics;
+	}
+}
@@ -0,0 +1,29 @@
+package com.sughelp.pdf.generator;
+
+/**
+ * Receives the metrics of each pdf created by the generators of a
+ * {@link PdfGeneratorConfig}, e.g. {@link AggregatingGenerationListener}, or a
+ * listener publishing them to a monitoring system. The generator times the
+ * phases as it goes through them and gives all the metrics of the pdf once it
+ * is saved. No metrics are given for a pdf which could not be created.<br>
+ * A listener of a {@link PdfBatchGenerator} is called by all its threads, so it
+ * must be thread safe. It is called by the thread creating the pdf and delays
+ * it, so it should only record the metrics.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public interface GenerationListener {
+
+	/**
+	 * The listener which ignores the metrics. It is the default listener.
+	 */
+	GenerationListener NO_OP = metrics -> {
+	};
+
+	/**
+	 * Called once a pdf is saved. The metrics are not changed afterwards.
+	 */
+	void documentGenerated(GenerationMetrics metrics);
+}
@@ -0,0 +1,109 @@
+package com.sughelp.pdf.generator;
+
+import com.sughelp.pdf.generator.constants.GenerationPhase;
+
+/**
+ * The time of each phase and the counts of one generated pdf, given to the
+ * {@link GenerationListener} once the pdf is saved.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public final class GenerationMetrics {
+
+	private final long[] phaseNanos = new long[GenerationPhase.values().length];
+	private String fileName;
+	private int pageCount;
+	private long rowCount;
+	private long lineCount;
+	private long imageCount;
+	private long byteCount;
+
+	GenerationMetrics() {
+	}
+
+	/**
+	 * The file name of the pdf, as set in its meta data.
+	 */
+	public String getFileName() {
+		return fileName;
+	}
+
+	void setFileName(String fileName) {
+		this.fileName = fileName;
+	}
+
+	/**
+	 * The time of the phase in nano seconds. Please refer {@link GenerationPhase}.
+	 */
+	public long getNanos(GenerationPhase phase) {
+		return phaseNanos[phase.ordinal()];
+	}
+
+	void addNanos(GenerationPhase phase, long nanos) {
+		phaseNanos[phase.ordinal()] += nanos;
+	}
+
+	/**
+	 * The time of all the phases in nano seconds.
+	 */
+	public long getTotalNanos() {
+		long totalNanos = 0;
+		for (long nanos : phaseNanos)
+			totalNanos += nanos;
+		return totalNanos;
+	}
+
+	public int getPageCount() {
+		return pageCount;
+	}
+
+	void setPageCount(int pageCount) {
+		this.pageCount = pageCount;
+	}
+
+	/**
+	 * The number of rows of all the tables.
+	 */
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	void addRow() {
+		rowCount++;
+	}
+
+	/**
+	 * The number of text lines written, after the text of the cells is wrapped.
+	 */
+	public long getLineCount() {
+		return lineCount;
+	}
+
+	void addLines(int lines) {
+		lineCount += lines;
+	}
+
+	/**
+	 * The number of image cells drawn.
+	 */
+	public long getImageCount() {
+		return imageCount;
+	}
+
+	void addImage() {
+		imageCount++;
+	}
+
+	/**
+	 * The size of the pdf in bytes.
+	 */
+	public long getByteCount() {
+		return byteCount;
+	}
+
+	void setByteCount(long byteCount) {
+		this.byteCount = byteCount;
+	}
+}
@@ -0,0 +1,85 @@
+package com.sughelp.pdf.generator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the phases of the generation of a pdf as events of a profiler. This
+ * recorder does nothing. {@link #create()} returns a
+ * {@link FlightRecorderGenerationRecorder} which records them as JDK Flight
+ * Recorder events when the JVM has the Flight Recorder API, i.e. JDK 8u262 or
+ * 11 and later, so the generator still runs on older JVMs.<br>
+ * A recorder keeps the events being recorded, so it is used by one generator.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+class GenerationRecorder {
+
+	private static final Logger logger = LoggerFactory.getLogger(GenerationRecorder.class);
+
+	private static final String FLIGHT_RECORDER_CLASS = "jdk.jfr.FlightRecorder";
+	private static final String FLIGHT_RECORDER_RECORDER_CLASS = "com.sughelp.pdf.generator.FlightRecorderGenerationRecorder";
+
+	/**
+	 * Creates a recorder of Flight Recorder events if the JVM has the Flight
+	 * Recorder API, else a recorder which does nothing.
+	 */
+	static GenerationRecorder create() {
+		try {
+			Class.forName(FLIGHT_RECORDER_CLASS);
+			return (GenerationRecorder) Class.forName(FLIGHT_RECORDER_RECORDER_CLASS).getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			logger.debug("flight recorder events are not recorded", e);
+			return new GenerationRecorder();
+		}
+	}
+
+	/**
+	 * Starts the document, once per pdf before its template is read.
+	 */
+	void beginDocument() {
+	}
+
+	/**
+	 * Ends the document once it is saved.
+	 */
+	void endDocument(GenerationMetrics metrics) {
+	}
+
+	void beginTable() {
+	}
+
+	void endTable(int tableNumber, int rowCount) {
+	}
+
+	/**
+	 * Starts the layout of a page, which ends when the next page is started or
+	 * the document is finished.
+	 */
+	void beginPage(int pageNumber) {
+	}
+
+	void endPage() {
+	}
+
+	void beginImageLoad() {
+	}
+
+	void endImageLoad(String source, boolean loaded) {
+	}
+
+	void beginSave() {
+	}
+
+	void endSave(long byteCount) {
+	}
+
+	/**
+	 * Drops the events of a failed document, which are not recorded. It is
+	 * called when the creation of a pdf fails and when the generator is reset.
+	 */
+	void reset() {
+	}
+}
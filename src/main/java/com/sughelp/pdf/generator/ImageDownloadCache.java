@@ -0,0 +1,278 @@
+package com.sughelp.pdf.generator;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sughelp.pdf.generator.constants.PdfErrorDescription;
+import com.sughelp.pdf.generator.exception.PdfTemplateException;
+
+/**
+ * Cache of the images downloaded by {@link Util#downloadFile(String)}. The
+ * cache is shared by all the generators of the JVM, so an image url used in
+ * many documents, e.g. a logo, is downloaded only once.<br>
+ * The cache holds at most {@link #setMaxBytes(long) max bytes} of images. If it
+ * is full, the least recently used images are evicted. An image is downloaded
+ * again once its {@link #setTimeToLiveMillis(long) time to live} has passed.
+ * If many threads request the same url at the same time, the image is
+ * downloaded only once and all of them get the same content, or the same
+ * exception if the download fails.<br>
+ * Failed downloads are not cached.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public final class ImageDownloadCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(ImageDownloadCache.class);
+
+	private static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+	private static final long DEFAULT_TIME_TO_LIVE_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+	private static final Object lock = new Object();
+	// access ordered, so the first entry is the least recently used
+	private static final LinkedHashMap<String, CachedImage> images = new LinkedHashMap<>(16, 0.75f, true);
+	private static long maxBytes = DEFAULT_MAX_BYTES;
+	private static long timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_TIME_TO_LIVE_MILLIS);
+	private static long cachedBytes;
+
+	// downloads in progress, so concurrent requests of an url wait for the same
+	// download
+	private static final ConcurrentHashMap<String, CompletableFuture<byte[]>> downloads = new ConcurrentHashMap<>();
+
+	private static final AtomicLong hits = new AtomicLong();
+	private static final AtomicLong misses = new AtomicLong();
+	private static final AtomicLong evictions = new AtomicLong();
+
+	private ImageDownloadCache() {
+	}
+
+	/**
+	 * Set the maximum size of the cached images in bytes. Images larger than this
+	 * are not cached. 0 disables the cache.<br>
+	 * Default value : 32 MB
+	 *
+	 * @param maxBytes
+	 *            The maximum size in bytes
+	 * @throws PdfTemplateException
+	 *             if the value is negative
+	 */
+	public static void setMaxBytes(long maxBytes) {
+		if (maxBytes < 0)
+			throw new PdfTemplateException(PdfErrorDescription.INVALID_IMAGE_CACHE_SIZE.getErrorDescription());
+		synchronized (lock) {
+			ImageDownloadCache.maxBytes = maxBytes;
+			evict(System.nanoTime());
+		}
+	}
+
+	public static long getMaxBytes() {
+		synchronized (lock) {
+			return maxBytes;
+		}
+	}
+
+	/**
+	 * Set the time after which a cached image is downloaded again.<br>
+	 * Default value : 10 minutes
+	 *
+	 * @param timeToLiveMillis
+	 *            The time to live in milliseconds
+	 * @throws PdfTemplateException
+	 *             if the value is not greater than 0
+	 */
+	public static void setTimeToLiveMillis(long timeToLiveMillis) {
+		if (timeToLiveMillis <= 0)
+			throw new PdfTemplateException(
+					PdfErrorDescription.INVALID_IMAGE_CACHE_TIME_TO_LIVE.getErrorDescription());
+		synchronized (lock) {
+			timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLiveMillis);
+		}
+	}
+
+	public static long getTimeToLiveMillis() {
+		synchronized (lock) {
+			return TimeUnit.NANOSECONDS.toMillis(timeToLiveNanos);
+		}
+	}
+
+	/**
+	 * Number of requests served from the cache, including the requests which
+	 * waited for a successful download of the same url by another thread.
+	 */
+	public static long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Number of requests which downloaded the image.
+	 */
+	public static long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Number of images removed from the cache because it was full or because
+	 * their time to live has passed.
+	 */
+	public static long getEvictions() {
+		return evictions.get();
+	}
+
+	/**
+	 * Size of the cached images in bytes.
+	 */
+	public static long getCachedBytes() {
+		synchronized (lock) {
+			return cachedBytes;
+		}
+	}
+
+	/**
+	 * Removes all the images from the cache. The counters are not reset.
+	 */
+	public static void clear() {
+		synchronized (lock) {
+			images.clear();
+			cachedBytes = 0;
+		}
+	}
+
+	/**
+	 * Content of the url, from the cache if available or else downloaded. The
+	 * returned array is shared, it must not be modified.
+	 *
+	 * @return null if the file can not be downloaded, or if the thread is
+	 *         interrupted while waiting for the download of another thread
+	 */
+	static byte[] get(String url) {
+		byte[] content = lookup(url);
+		if (content != null) {
+			hits.incrementAndGet();
+			return content;
+		}
+		CompletableFuture<byte[]> download = new CompletableFuture<>();
+		CompletableFuture<byte[]> runningDownload = downloads.putIfAbsent(url, download);
+		if (runningDownload != null) {
+			logger.debug("waiting for the running download of {}", url);
+			content = await(url, runningDownload);
+			if (content != null)
+				hits.incrementAndGet();
+			return content;
+		}
+		try {
+			// another thread may have finished the download just before this one was
+			// registered
+			content = lookup(url);
+			if (content != null) {
+				hits.incrementAndGet();
+			} else {
+				misses.incrementAndGet();
+				content = Util.fetchFile(url);
+				if (content != null)
+					put(url, content);
+			}
+			download.complete(content);
+			return content;
+		} catch (Throwable e) {
+			// also an error, e.g. out of memory, so the waiting threads do not wait
+			// forever
+			download.completeExceptionally(e);
+			throw e;
+		} finally {
+			downloads.remove(url, download);
+		}
+	}
+
+	// waits for the download of another thread, and fails with the exception of
+	// the download if it failed. The wait can be interrupted, e.g. when the
+	// prefetch of the images is cancelled.
+	private static byte[] await(String url, CompletableFuture<byte[]> runningDownload) {
+		try {
+			return runningDownload.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			logger.debug("interrupted while waiting for the download of {}", url);
+			return null;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			if (e.getCause() instanceof Error)
+				throw (Error) e.getCause();
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private static byte[] lookup(String url) {
+		synchronized (lock) {
+			CachedImage image = images.get(url);
+			if (image == null)
+				return null;
+			if (System.nanoTime() - image.cachedAt >= timeToLiveNanos) {
+				remove(url, image);
+				return null;
+			}
+			return image.content;
+		}
+	}
+
+	private static void put(String url, byte[] content) {
+		synchronized (lock) {
+			if (content.length > maxBytes)
+				return;
+			CachedImage previous = images.put(url, new CachedImage(content, System.nanoTime()));
+			if (previous != null)
+				cachedBytes -= previous.content.length;
+			cachedBytes += content.length;
+			evict(System.nanoTime());
+		}
+	}
+
+	// removes the expired images and then the least recently used images till
+	// the cache fits into the max bytes. Must be called holding the lock.
+	private static void evict(long now) {
+		Iterator<Map.Entry<String, CachedImage>> iterator = images.entrySet().iterator();
+		while (iterator.hasNext()) {
+			CachedImage image = iterator.next().getValue();
+			if (now - image.cachedAt >= timeToLiveNanos) {
+				iterator.remove();
+				cachedBytes -= image.content.length;
+				evictions.incrementAndGet();
+			}
+		}
+		iterator = images.entrySet().iterator();
+		while (cachedBytes > maxBytes && iterator.hasNext()) {
+			Map.Entry<String, CachedImage> entry = iterator.next();
+			iterator.remove();
+			cachedBytes -= entry.getValue().content.length;
+			evictions.incrementAndGet();
+			logger.debug("evicted {} from the image download cache", entry.getKey());
+		}
+	}
+
+	private static void remove(String url, CachedImage image) {
+		images.remove(url);
+		cachedBytes -= image.content.length;
+		evictions.incrementAndGet();
+	}
+
+	private static final class CachedImage {
+
+		private final byte[] content;
+		private final long cachedAt;
+
+		CachedImage(byte[] content, long cachedAt) {
+			this.content = content;
+			this.cachedAt = cachedAt;
+		}
+	}
+}
@@ -0,0 +1,264 @@
+package com.sughelp.pdf.generator;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.graphics.image.JPEGFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reduces the images to the resolution needed for the size at which they are
+ * drawn. An image with more pixels than the target dpi needs for its placed
+ * size is resampled down, so a large photo drawn in a small cell is not
+ * embedded at its full resolution. The image can also be converted to grayscale
+ * and encoded as JPEG with a given quality.<br>
+ * The optimized images are cached for the JVM by the image content, the
+ * placed size and the settings, so an image drawn in many documents is
+ * optimized only once. The cache is bounded by the size of the cached JPEG
+ * bytes and decoded rasters, and the least recently used images are evicted.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+final class ImageOptimizer {
+
+	private static final Logger logger = LoggerFactory.getLogger(ImageOptimizer.class);
+
+	private static final float POINTS_PER_INCH = 72;
+	private static final int MAX_CACHED_IMAGES = 256;
+	private static final long MAX_CACHED_BYTES = 64L * 1024 * 1024;
+	// quality of JPEG images resampled without a JPEG quality set
+	private static final float DEFAULT_JPEG_QUALITY = 0.75f;
+
+	private static final Object lock = new Object();
+	// optimized images by the image content hash, placed size and settings.
+	// Access ordered, so the first entry is the least recently used.
+	private static final LinkedHashMap<String, OptimizedImage> cache = new LinkedHashMap<>(16, 0.75f, true);
+	private static long cachedBytes;
+	// cached for images which do not need to be optimized
+	private static final OptimizedImage NOT_OPTIMIZED = new OptimizedImage(null, null);
+
+	private final float targetDpi;
+	private final boolean grayscale;
+	private final float jpegQuality;
+	private final String settingsKey;
+
+	ImageOptimizer(PdfGeneratorConfig config) {
+		targetDpi = config.getImageTargetDpi();
+		grayscale = config.getImageGrayscale();
+		jpegQuality = config.getImageJpegQuality();
+		settingsKey = "/" + targetDpi + "/" + grayscale + "/" + jpegQuality;
+	}
+
+	boolean isEnabled() {
+		return targetDpi > 0 || grayscale || jpegQuality > 0;
+	}
+
+	/**
+	 * Key of the variant of an image drawn at the given size. Images drawn at
+	 * sizes which need the same number of pixels share the variant.
+	 */
+	String getVariantKey(float width, float height) {
+		if (targetDpi <= 0)
+			return "";
+		return "@" + toPixels(width) + "x" + toPixels(height);
+	}
+
+	/**
+	 * Creates the optimized image.
+	 *
+	 * @param contentKey
+	 *            The hash of the image content with the variant key
+	 * @return null if the image does not need to be optimized or can not be
+	 *         decoded, so it should be created from its original content
+	 */
+	PDImageXObject createImage(PDDocument pdfDoc, String contentKey, byte[] imageBytes, float width, float height)
+			throws IOException {
+		if (!isEnabled())
+			return null;
+		String cacheKey = contentKey + settingsKey;
+		OptimizedImage optimizedImage = lookup(cacheKey);
+		if (optimizedImage == null) {
+			optimizedImage = optimize(imageBytes, width, height);
+			put(cacheKey, optimizedImage);
+		}
+		if (optimizedImage == NOT_OPTIMIZED)
+			return null;
+		if (optimizedImage.jpeg != null)
+			return JPEGFactory.createFromByteArray(pdfDoc, optimizedImage.jpeg);
+		return LosslessFactory.createFromImage(pdfDoc, optimizedImage.image);
+	}
+
+	private static OptimizedImage lookup(String cacheKey) {
+		synchronized (lock) {
+			return cache.get(cacheKey);
+		}
+	}
+
+	// images larger than the cache are not cached, they are optimized for each
+	// document
+	private static void put(String cacheKey, OptimizedImage optimizedImage) {
+		if (optimizedImage.size > MAX_CACHED_BYTES)
+			return;
+		synchronized (lock) {
+			OptimizedImage previous = cache.put(cacheKey, optimizedImage);
+			if (previous != null)
+				cachedBytes -= previous.size;
+			cachedBytes += optimizedImage.size;
+			Iterator<OptimizedImage> iterator = cache.values().iterator();
+			while ((cachedBytes > MAX_CACHED_BYTES || cache.size() > MAX_CACHED_IMAGES) && iterator.hasNext()) {
+				cachedBytes -= iterator.next().size;
+				iterator.remove();
+			}
+		}
+	}
+
+	private OptimizedImage optimize(byte[] imageBytes, float width, float height) throws IOException {
+		BufferedImage image;
+		try {
+			image = ImageIO.read(new ByteArrayInputStream(imageBytes));
+		} catch (IOException e) {
+			logger.debug("unable to decode the image to optimize it", e);
+			return NOT_OPTIMIZED;
+		}
+		if (image == null)
+			return NOT_OPTIMIZED;
+		int targetWidth = image.getWidth();
+		int targetHeight = image.getHeight();
+		if (targetDpi > 0) {
+			targetWidth = Math.min(targetWidth, toPixels(width));
+			targetHeight = Math.min(targetHeight, toPixels(height));
+		}
+		boolean resample = targetWidth != image.getWidth() || targetHeight != image.getHeight();
+		if (!resample && !grayscale && jpegQuality <= 0)
+			return NOT_OPTIMIZED;
+		boolean hasAlpha = image.getColorModel().hasAlpha();
+		if (resample)
+			image = resample(image, targetWidth, targetHeight, hasAlpha);
+		if (grayscale)
+			image = toGrayscale(image, hasAlpha);
+		logger.debug("image optimized to {}x{} pixels", targetWidth, targetHeight);
+		// JPEG images stay JPEG. JPEG has no transparency, so images with alpha are
+		// kept lossless.
+		float quality = jpegQuality > 0 ? jpegQuality
+				: ImagePassthrough.isJpeg(imageBytes) ? DEFAULT_JPEG_QUALITY : 0;
+		if (quality > 0 && !hasAlpha)
+			return new OptimizedImage(null, encodeJpeg(image, quality));
+		return new OptimizedImage(image, null);
+	}
+
+	private int toPixels(float points) {
+		return Math.max(1, (int) Math.ceil(points * targetDpi / POINTS_PER_INCH));
+	}
+
+	// halves the image till it is less than twice the target size and then
+	// scales it to the target, which keeps the quality of bilinear scaling for
+	// large reductions
+	private static BufferedImage resample(BufferedImage image, int targetWidth, int targetHeight, boolean hasAlpha) {
+		int width = image.getWidth();
+		int height = image.getHeight();
+		do {
+			width = width / 2 >= targetWidth ? width / 2 : targetWidth;
+			height = height / 2 >= targetHeight ? height / 2 : targetHeight;
+			BufferedImage scaled = new BufferedImage(width, height,
+					hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+			Graphics2D graphics = scaled.createGraphics();
+			try {
+				graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+						RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+				graphics.drawImage(image, 0, 0, width, height, null);
+			} finally {
+				graphics.dispose();
+			}
+			image = scaled;
+		} while (width != targetWidth || height != targetHeight);
+		return image;
+	}
+
+	private static BufferedImage toGrayscale(BufferedImage image, boolean hasAlpha) {
+		if (!hasAlpha) {
+			BufferedImage gray = new BufferedImage(image.getWidth(), image.getHeight(),
+					BufferedImage.TYPE_BYTE_GRAY);
+			Graphics2D graphics = gray.createGraphics();
+			try {
+				graphics.drawImage(image, 0, 0, null);
+			} finally {
+				graphics.dispose();
+			}
+			return gray;
+		}
+		// the gray color space has no alpha, so the colors are desaturated in place
+		BufferedImage gray = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+		for (int y = 0; y < image.getHeight(); y++) {
+			for (int x = 0; x < image.getWidth(); x++) {
+				int argb = image.getRGB(x, y);
+				int luminance = (int) (0.299f * ((argb >> 16) & 0xff) + 0.587f * ((argb >> 8) & 0xff)
+						+ 0.114f * (argb & 0xff));
+				gray.setRGB(x, y, (argb & 0xff000000) | luminance << 16 | luminance << 8 | luminance);
+			}
+		}
+		return gray;
+	}
+
+	private static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+		Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+		if (!writers.hasNext())
+			throw new IOException("no JPEG image writer available");
+		ImageWriter writer = writers.next();
+		ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+		try (ImageOutputStream outputStream = ImageIO.createImageOutputStream(jpeg)) {
+			writer.setOutput(outputStream);
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionQuality(quality);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+		return jpeg.toByteArray();
+	}
+
+	private static final class OptimizedImage {
+
+		// either the image to be encoded lossless or the JPEG encoded image
+		private final BufferedImage image;
+		private final byte[] jpeg;
+		// bytes held by the image, i.e. its raster or its JPEG bytes
+		private final long size;
+
+		OptimizedImage(BufferedImage image, byte[] jpeg) {
+			this.image = image;
+			this.jpeg = jpeg;
+			if (image != null)
+				size = sizeOf(image.getRaster().getDataBuffer());
+			else if (jpeg != null)
+				size = jpeg.length;
+			else
+				size = 0;
+		}
+
+		private static long sizeOf(DataBuffer dataBuffer) {
+			return (long) dataBuffer.getSize() * dataBuffer.getNumBanks()
+					* DataBuffer.getDataTypeSize(dataBuffer.getDataType()) / Byte.SIZE;
+		}
+	}
+}
@@ -0,0 +1,212 @@
+package com.sughelp.pdf.generator;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSInteger;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSString;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace;
+import org.apache.pdfbox.pdmodel.graphics.color.PDDeviceGray;
+import org.apache.pdfbox.pdmodel.graphics.color.PDDeviceRGB;
+import org.apache.pdfbox.pdmodel.graphics.color.PDIndexed;
+import org.apache.pdfbox.pdmodel.graphics.image.JPEGFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Embeds JPEG and PNG images without decoding them.<br>
+ * A JPEG image is embedded as is in a DCTDecode stream.<br>
+ * The compressed image data of a PNG (the IDAT chunks) is a zlib stream of the
+ * rows, each prefixed with its PNG filter type, which is exactly what a
+ * FlateDecode stream with PNG predictors (predictor 15) holds. So the data is
+ * copied as is into the image stream and only the chunk headers of the PNG are
+ * parsed. It is possible for non interlaced grayscale, truecolor and indexed
+ * images without transparency. For other images, e.g. images with alpha or
+ * with an embedded color profile, null is returned and the image has to be
+ * decoded.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+final class ImagePassthrough {
+
+	private static final Logger logger = LoggerFactory.getLogger(ImagePassthrough.class);
+
+	private static final byte[] SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n' };
+	private static final int PNG_PREDICTOR = 15;
+	private static final int IHDR_LENGTH = 13;
+
+	private static final int COLOR_TYPE_GRAYSCALE = 0;
+	private static final int COLOR_TYPE_TRUECOLOR = 2;
+	private static final int COLOR_TYPE_INDEXED = 3;
+
+	private ImagePassthrough() {
+	}
+
+	static boolean isJpeg(byte[] imageBytes) {
+		return imageBytes.length > 2 && (imageBytes[0] & 0xff) == 0xff && (imageBytes[1] & 0xff) == 0xd8;
+	}
+
+	static boolean isPng(byte[] imageBytes) {
+		if (imageBytes.length < SIGNATURE.length)
+			return false;
+		for (int i = 0; i < SIGNATURE.length; i++)
+			if (imageBytes[i] != SIGNATURE[i])
+				return false;
+		return true;
+	}
+
+	/**
+	 * Creates the image from the JPEG or PNG content without decoding it.
+	 *
+	 * @return null if the image is neither JPEG nor PNG or can not be embedded
+	 *         without decoding
+	 */
+	static PDImageXObject createImage(PDDocument pdfDoc, byte[] imageBytes) throws IOException {
+		if (isJpeg(imageBytes))
+			return JPEGFactory.createFromByteArray(pdfDoc, imageBytes);
+		if (isPng(imageBytes))
+			return createPngImage(pdfDoc, imageBytes);
+		return null;
+	}
+
+	private static PDImageXObject createPngImage(PDDocument pdfDoc, byte[] imageBytes) throws IOException {
+		int width = 0;
+		int height = 0;
+		int bitDepth = 0;
+		int colorType = -1;
+		boolean hasSrgb = false;
+		boolean hasGamma = false;
+		byte[] palette = null;
+		List<InputStream> imageData = new ArrayList<>();
+		int position = SIGNATURE.length;
+		while (position + 12 <= imageBytes.length) {
+			int length = readInt(imageBytes, position);
+			String type = new String(imageBytes, position + 4, 4, "ISO-8859-1");
+			int dataStart = position + 8;
+			// written so it does not overflow for a length close to the max int
+			if (length < 0 || length > imageBytes.length - dataStart - 4 || !isCrcValid(imageBytes, position, length))
+				return unsupported("corrupted chunk " + type);
+			switch (type) {
+			case "IHDR":
+				if (length != IHDR_LENGTH)
+					return unsupported("invalid header");
+				width = readInt(imageBytes, dataStart);
+				height = readInt(imageBytes, dataStart + 4);
+				bitDepth = imageBytes[dataStart + 8] & 0xff;
+				colorType = imageBytes[dataStart + 9] & 0xff;
+				int compressionMethod = imageBytes[dataStart + 10] & 0xff;
+				int filterMethod = imageBytes[dataStart + 11] & 0xff;
+				int interlaceMethod = imageBytes[dataStart + 12] & 0xff;
+				if (width <= 0 || height <= 0 || compressionMethod != 0 || filterMethod != 0)
+					return unsupported("invalid header");
+				if (interlaceMethod != 0)
+					return unsupported("interlaced image");
+				break;
+			case "PLTE":
+				palette = new byte[length];
+				System.arraycopy(imageBytes, dataStart, palette, 0, length);
+				break;
+			case "IDAT":
+				imageData.add(new ByteArrayInputStream(imageBytes, dataStart, length));
+				break;
+			case "sRGB":
+				hasSrgb = true;
+				break;
+			case "gAMA":
+			case "cHRM":
+				hasGamma = true;
+				break;
+			case "tRNS":
+				return unsupported("transparency");
+			case "iCCP":
+				return unsupported("color profile");
+			case "IEND":
+				position = imageBytes.length;
+				continue;
+			default:
+				// other chunks are only metadata
+			}
+			position = dataStart + length + 4;
+		}
+		// gamma and chromaticity are ignored if the image is sRGB, same as the
+		// device color spaces
+		if (hasGamma && !hasSrgb)
+			return unsupported("gamma correction");
+		if (width == 0)
+			return unsupported("no header");
+		if (imageData.isEmpty())
+			return unsupported("no image data");
+
+		PDColorSpace colorSpace;
+		int colors;
+		switch (colorType) {
+		case COLOR_TYPE_GRAYSCALE:
+			colorSpace = PDDeviceGray.INSTANCE;
+			colors = 1;
+			break;
+		case COLOR_TYPE_TRUECOLOR:
+			if (bitDepth != 8 && bitDepth != 16)
+				return unsupported("bit depth " + bitDepth);
+			colorSpace = PDDeviceRGB.INSTANCE;
+			colors = 3;
+			break;
+		case COLOR_TYPE_INDEXED:
+			if (palette == null || palette.length == 0 || palette.length % 3 != 0 || palette.length / 3 > 256)
+				return unsupported("invalid palette");
+			colorSpace = createIndexedColorSpace(palette);
+			colors = 1;
+			break;
+		default:
+			return unsupported("alpha channel");
+		}
+
+		PDImageXObject pdImage = new PDImageXObject(pdfDoc,
+				new SequenceInputStream(Collections.enumeration(imageData)), COSName.FLATE_DECODE, width, height,
+				bitDepth, colorSpace);
+		COSDictionary decodeParms = new COSDictionary();
+		decodeParms.setInt(COSName.PREDICTOR, PNG_PREDICTOR);
+		decodeParms.setInt(COSName.COLORS, colors);
+		decodeParms.setInt(COSName.BITS_PER_COMPONENT, bitDepth);
+		decodeParms.setInt(COSName.COLUMNS, width);
+		pdImage.getCOSObject().setItem(COSName.DECODE_PARMS, decodeParms);
+		return pdImage;
+	}
+
+	private static PDColorSpace createIndexedColorSpace(byte[] palette) throws IOException {
+		COSArray indexed = new COSArray();
+		indexed.add(COSName.INDEXED);
+		indexed.add(COSName.DEVICERGB);
+		indexed.add(COSInteger.get(palette.length / 3 - 1));
+		indexed.add(new COSString(palette));
+		return new PDIndexed(indexed);
+	}
+
+	private static boolean isCrcValid(byte[] imageBytes, int chunkStart, int length) {
+		CRC32 crc = new CRC32();
+		crc.update(imageBytes, chunkStart + 4, length + 4);
+		return (int) crc.getValue() == readInt(imageBytes, chunkStart + 8 + length);
+	}
+
+	private static int readInt(byte[] bytes, int offset) {
+		return (bytes[offset] & 0xff) << 24 | (bytes[offset + 1] & 0xff) << 16 | (bytes[offset + 2] & 0xff) << 8
+				| (bytes[offset + 3] & 0xff);
+	}
+
+	private static PDImageXObject unsupported(String reason) {
+		logger.debug("PNG can not be embedded without decoding :: {}", reason);
+		return null;
+	}
+}
@@ -0,0 +1,124 @@
+package com.sughelp.pdf.generator;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sughelp.pdf.generator.constants.PdfConstants;
+
+/**
+ * Loads all the images of a template concurrently before the pdf is created,
+ * so the time taken to load the images is close to the time taken by the
+ * slowest image instead of the sum of all of them.<br>
+ * Each distinct image file and url is loaded once on the pool of the
+ * configuration, which has at most the configured number of threads and is
+ * shared by all its generators, so the threads are not created for each
+ * document. Images which are not loaded before the deadline of the document
+ * are cancelled.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+final class ImagePrefetcher {
+
+	private static final Logger logger = LoggerFactory.getLogger(ImagePrefetcher.class);
+
+	private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+	private static final AtomicInteger threadCount = new AtomicInteger();
+	private static final ThreadFactory threadFactory = runnable -> {
+		Thread thread = new Thread(runnable, "pdf-image-prefetch-" + threadCount.incrementAndGet());
+		// a download which does not respond to the cancellation must not keep
+		// the JVM alive
+		thread.setDaemon(true);
+		return thread;
+	};
+
+	private ImagePrefetcher() {
+	}
+
+	/**
+	 * Creates a pool of at most the given number of threads to load the images.
+	 * The threads are created when needed and stop once they are idle for a
+	 * minute, so a pool which is not used anymore does not need to be shut
+	 * down.
+	 */
+	static ThreadPoolExecutor newExecutor(int maxThreads) {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, IDLE_THREAD_KEEP_ALIVE_SECONDS,
+				TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * Loads the content of all the images of the template.
+	 *
+	 * @param executor
+	 *            The pool loading the images
+	 * @param timeoutMillis
+	 *            The time after which the images not loaded yet are cancelled
+	 * @return The loaded images by the key of the image source in
+	 *         {@link ImageRegistry}. All the futures are done, either completed or
+	 *         cancelled.
+	 */
+	static Map<String, Future<byte[]>> prefetch(Template template, ExecutorService executor, long timeoutMillis)
+			throws InterruptedException {
+		Map<String, Callable<byte[]>> loaders = collectImages(template);
+		Map<String, Future<byte[]>> images = new LinkedHashMap<>();
+		if (loaders.isEmpty())
+			return images;
+		logger.debug("prefetching {} images", loaders.size());
+		List<String> keys = new ArrayList<>(loaders.keySet());
+		// the images not loaded by the deadline are cancelled, the pool is kept
+		List<Future<byte[]>> futures = executor.invokeAll(new ArrayList<>(loaders.values()), timeoutMillis,
+				TimeUnit.MILLISECONDS);
+		for (int i = 0; i < keys.size(); i++) {
+			if (futures.get(i).isCancelled())
+				logger.warn("image {} was not loaded in {} ms", keys.get(i), timeoutMillis);
+			images.put(keys.get(i), futures.get(i));
+		}
+		return images;
+	}
+
+	private static Map<String, Callable<byte[]>> collectImages(Template template) {
+		Map<String, Callable<byte[]>> loaders = new LinkedHashMap<>();
+		if (template.getTables() == null)
+			return loaders;
+		for (Table table : template.getTables()) {
+			if (table.getRows() == null)
+				continue;
+			for (Row row : table.getRows()) {
+				if (row.getColumns() == null)
+					continue;
+				for (Column column : row.getColumns()) {
+					if (!column.getContentType().equals(PdfConstants.CONTENT_TYPE_IMAGE.getValue()))
+						continue;
+					// same precedence as while drawing the image
+					String imageFile = column.getImageFile();
+					String imageUrl = column.getImageUrl();
+					if (imageFile != null)
+						loaders.putIfAbsent(ImageRegistry.getFileKey(imageFile),
+								() -> Files.readAllBytes(Paths.get(imageFile)));
+					else if (imageUrl != null)
+						loaders.putIfAbsent(ImageRegistry.getUrlKey(imageUrl), () -> Util.downloadFile(imageUrl));
+				}
+			}
+		}
+		return loaders;
+	}
+}
@@ -0,0 +1,225 @@
+package com.sughelp.pdf.generator;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import javax.imageio.ImageIO;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.graphics.image.CCITTFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.JPEGFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Images of one document. Each distinct image is created as a
+ * {@link PDImageXObject} only once and the same object is drawn by every cell
+ * which uses it, so the image is decoded, encoded and embedded only once in the
+ * document.<br>
+ * Images are looked up by the source, i.e. the image file or url, and if the
+ * source is not known yet, by the hash of the image content. So the same image
+ * read from different files or urls is also embedded only once.<br>
+ * The content of the images can be prefetched by {@link ImagePrefetcher}
+ * before the document is created and the images can be reduced to the size
+ * at which they are drawn by {@link ImageOptimizer}. Otherwise JPEG and PNG
+ * images are embedded without decoding them whenever possible, please refer
+ * {@link ImagePassthrough}.<br>
+ * The images are bound to the document, so a registry must not be shared
+ * between documents.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+final class ImageRegistry {
+
+	private static final Logger logger = LoggerFactory.getLogger(ImageRegistry.class);
+
+	private static final String FILE_KEY_PREFIX = "file:";
+	private static final String URL_KEY_PREFIX = "url:";
+
+	private final PDDocument pdfDoc;
+	private final ImageOptimizer imageOptimizer;
+	private final Map<String, PDImageXObject> imagesBySource = new HashMap<>();
+	private final Map<String, PDImageXObject> imagesByContent = new HashMap<>();
+
+	private Map<String, Future<byte[]>> prefetchedImages = Collections.emptyMap();
+
+	private long hits;
+	private long misses;
+
+	ImageRegistry(PDDocument pdfDoc, ImageOptimizer imageOptimizer) {
+		this.pdfDoc = pdfDoc;
+		this.imageOptimizer = imageOptimizer;
+	}
+
+	/**
+	 * Prefetched content of the images by the key of the image source. The images
+	 * which are not prefetched are loaded when they are drawn.
+	 */
+	void setPrefetchedImages(Map<String, Future<byte[]>> prefetchedImages) {
+		this.prefetchedImages = prefetchedImages;
+	}
+
+	/**
+	 * Image of the file drawn at the given size. The file is read only if it is
+	 * not in the registry.
+	 *
+	 * @return null if the file was not prefetched in time
+	 */
+	PDImageXObject getImageFromFile(String imageFile, float width, float height) throws IOException {
+		return getImage(getFileKey(imageFile), width, height, () -> Files.readAllBytes(Paths.get(imageFile)),
+				imageBytes -> createFromFileContent(imageFile, imageBytes));
+	}
+
+	/**
+	 * Image of the url drawn at the given size. The image is downloaded only if
+	 * it is not in the registry.
+	 *
+	 * @return null if the image can not be downloaded or was not prefetched in
+	 *         time
+	 */
+	PDImageXObject getImageFromUrl(String imageUrl, float width, float height) throws IOException {
+		return getImage(getUrlKey(imageUrl), width, height, () -> Util.downloadFile(imageUrl),
+				imageBytes -> PDImageXObject.createFromByteArray(pdfDoc, imageBytes, null));
+	}
+
+	// if the images are optimized, each size variant of an image is registered on
+	// its own
+	private PDImageXObject getImage(String sourceKey, float width, float height, ImageLoader loader,
+			ImageFactory factory) throws IOException {
+		String variantKey = imageOptimizer.getVariantKey(width, height);
+		PDImageXObject pdImage = imagesBySource.get(sourceKey + variantKey);
+		if (pdImage != null) {
+			hits++;
+			return pdImage;
+		}
+		Future<byte[]> prefetchedImage = prefetchedImages.get(sourceKey);
+		byte[] imageBytes = prefetchedImage != null ? getPrefetchedImage(sourceKey, prefetchedImage) : loader.load();
+		if (imageBytes == null)
+			return null;
+		String contentKey = hash(imageBytes) + variantKey;
+		pdImage = getImageByContent(sourceKey + variantKey, contentKey);
+		if (pdImage == null) {
+			pdImage = imageOptimizer.createImage(pdfDoc, contentKey, imageBytes, width, height);
+			if (pdImage == null)
+				pdImage = ImagePassthrough.createImage(pdfDoc, imageBytes);
+			if (pdImage == null)
+				pdImage = factory.create(imageBytes);
+			register(sourceKey + variantKey, contentKey, pdImage);
+		}
+		return pdImage;
+	}
+
+	static String getFileKey(String imageFile) {
+		return FILE_KEY_PREFIX + Paths.get(imageFile).toAbsolutePath().normalize();
+	}
+
+	static String getUrlKey(String imageUrl) {
+		return URL_KEY_PREFIX + imageUrl;
+	}
+
+	// the prefetch is already finished, so this does not wait
+	private byte[] getPrefetchedImage(String sourceKey, Future<byte[]> prefetchedImage) throws IOException {
+		if (prefetchedImage.isCancelled())
+			return null;
+		try {
+			return prefetchedImage.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while reading the image " + sourceKey);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException)
+				throw (IOException) e.getCause();
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new IOException("unable to load the image " + sourceKey, e.getCause());
+		}
+	}
+
+	// same as PDImageXObject.createFromFile, i.e. the image type is based on the
+	// file extension, but the content is already read
+	private PDImageXObject createFromFileContent(String imageFile, byte[] imageBytes) throws IOException {
+		String name = Paths.get(imageFile).getFileName().toString();
+		int dot = name.lastIndexOf('.');
+		String extension = dot == -1 ? "" : name.substring(dot + 1).toLowerCase();
+		switch (extension) {
+		case "jpg":
+		case "jpeg":
+			return JPEGFactory.createFromByteArray(pdfDoc, imageBytes);
+		case "tif":
+		case "tiff":
+			return CCITTFactory.createFromByteArray(pdfDoc, imageBytes);
+		case "gif":
+		case "bmp":
+		case "png":
+			return LosslessFactory.createFromImage(pdfDoc, ImageIO.read(new ByteArrayInputStream(imageBytes)));
+		default:
+			throw new IllegalArgumentException("Image type not supported: " + name);
+		}
+	}
+
+	// image with the same content read from another source
+	private PDImageXObject getImageByContent(String sourceKey, String contentKey) {
+		PDImageXObject pdImage = imagesByContent.get(contentKey);
+		if (pdImage != null) {
+			hits++;
+			imagesBySource.put(sourceKey, pdImage);
+			logger.debug("image of {} is same as an image already in the document", sourceKey);
+		}
+		return pdImage;
+	}
+
+	private void register(String sourceKey, String contentKey, PDImageXObject pdImage) {
+		misses++;
+		imagesBySource.put(sourceKey, pdImage);
+		imagesByContent.put(contentKey, pdImage);
+	}
+
+	/**
+	 * Number of images which were already in the registry.
+	 */
+	long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Number of images which were created, i.e. the number of distinct images in
+	 * the document.
+	 */
+	long getMisses() {
+		return misses;
+	}
+
+	private static String hash(byte[] content) {
+		try {
+			return new BigInteger(1, MessageDigest.getInstance("SHA-256").digest(content)).toString(16);
+		} catch (NoSuchAlgorithmException e) {
+			// every java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private interface ImageLoader {
+
+		byte[] load() throws IOException;
+	}
+
+	private interface ImageFactory {
+
+		PDImageXObject create(byte[] imageBytes) throws IOException;
+	}
+}
@@ -0,0 +1,109 @@
+package com.sughelp.pdf.generator;
+
+import org.apache.pdfbox.pdmodel.font.PDFont;
+
+/**
+ * Splits the text of a column into lines which fit into the column width.<br>
+ * Each character is measured only once. The width of the current line is
+ * accumulated glyph by glyph and the position of the last space is tracked, so
+ * a line can be word wrapped without measuring its prefix again. The width is
+ * summed from left to right in the same order as
+ * {@link PDFont#getStringWidth(String)}, so the lines are identical to the ones
+ * produced by measuring every prefix of the line.<br>
+ * The lines are kept as offsets of the text in {@link TextLines}, so the text
+ * is not copied while it is split.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+final class LineBreaker {
+
+	private LineBreaker() {
+	}
+
+	/**
+	 * Split the text into lines of at most <code>maxWidth</code>. Lines are
+	 * broken at new line characters and, if the line is wider than the max width,
+	 * at the last space of the line or else at the current character.
+	 *
+	 * @param fontMetrics
+	 *            The metrics of the font in which the text will be written
+	 * @param fontSize
+	 *            The size of the font
+	 * @param maxWidth
+	 *            The maximum width of a line
+	 * @param text
+	 *            The text to split. Carriage returns should be removed already.
+	 * @return The lines to be written
+	 */
+	static TextLines split(FontMetrics fontMetrics, float fontSize, float maxWidth, String text) {
+		TextLines lines = new TextLines();
+		split(fontMetrics, fontSize, maxWidth, text, lines);
+		return lines;
+	}
+
+	/**
+	 * Split the text into the given lines, replacing the lines split before. The
+	 * lines are the offsets of the text, so nothing is copied from the text.
+	 *
+	 * @see #split(FontMetrics, float, float, String)
+	 */
+	static void split(FontMetrics fontMetrics, float fontSize, float maxWidth, String text, TextLines lines) {
+		lines.reset(text);
+		int paragraphStart = 0;
+		while (paragraphStart <= text.length()) {
+			int paragraphEnd = text.indexOf('\n', paragraphStart);
+			if (paragraphEnd < 0)
+				paragraphEnd = text.length();
+			// empty paragraphs (consecutive new lines) do not create a line
+			if (paragraphEnd > paragraphStart)
+				splitParagraph(fontMetrics, fontSize, maxWidth, text, paragraphStart, paragraphEnd, lines);
+			paragraphStart = paragraphEnd + 1;
+		}
+	}
+
+	// the paragraph is the text from paragraphStart to paragraphEnd
+	private static void splitParagraph(FontMetrics fontMetrics, float fontSize, float maxWidth, String text,
+			int paragraphStart, int paragraphEnd, TextLines lines) {
+		// the current line is the text between lineStart and the current position
+		int lineStart = paragraphStart;
+		int lastSpace = paragraphStart - 1;
+		float lineWidth = 0;
+		for (int position = paragraphStart; position < paragraphEnd; position++) {
+			char c = text.charAt(position);
+			lineWidth += fontMetrics.getAdvance(c);
+			if (c == ' ')
+				lastSpace = position;
+			if ((fontSize * lineWidth / 1000) > maxWidth) {
+				// to word wrap based on space between words
+				if (lastSpace >= lineStart && position + 1 < paragraphEnd && text.charAt(position + 1) != ' ') {
+					addTrimmed(text, lineStart, lastSpace, lines);
+					// the space is kept at the start of the next line, so the next line
+					// width is summed again from the space
+					if (lastSpace != lineStart) {
+						lineStart = lastSpace;
+						lineWidth = fontMetrics.getStringWidth(text, lineStart, position + 1);
+					}
+				} else {
+					addTrimmed(text, lineStart, position + 1, lines);
+					lineStart = position + 1;
+					lineWidth = 0;
+				}
+			}
+		}
+		// adding the last part
+		if (lineStart < paragraphEnd)
+			addTrimmed(text, lineStart, paragraphEnd, lines);
+	}
+
+	// adds the line without its leading and trailing white space, same as
+	// String.trim()
+	private static void addTrimmed(String text, int start, int end, TextLines lines) {
+		while (start < end && text.charAt(start) <= ' ')
+			start++;
+		while (end > start && text.charAt(end - 1) <= ' ')
+			end--;
+		lines.add(start, end);
+	}
+}
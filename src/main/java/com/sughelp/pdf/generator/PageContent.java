@@ -0,0 +1,273 @@
+package com.sughelp.pdf.generator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.PDPageContentStream.AppendMode;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.graphics.color.PDColor;
+import org.apache.pdfbox.pdmodel.graphics.color.PDDeviceRGB;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+
+import com.sughelp.pdf.generator.constants.PdfOutputProfile;
+
+/**
+ * The content of one page, recorded while the page is laid out and written to
+ * the content stream of the page afterwards. The text and the images are
+ * written in the order in which they are recorded.<br>
+ * Everything shared between the pages, i.e. the fonts and the images, is
+ * created before it is recorded, so the content of different pages can be
+ * written concurrently. Only a font which is subset is not safe to write
+ * concurrently, as writing text adds the font and its characters to sets of
+ * the document and the font which are not thread safe. So a page using such a
+ * font has to be written by the thread creating the pdf, see
+ * {@link #usesSubsetFont()}.<br>
+ * The graphics state of the page is tracked while the content is recorded, and
+ * the font, colors and line width are recorded only when they change. Each
+ * page has its own content stream, which starts with the default graphics
+ * state, so nothing is assumed about the state at the start of a page.<br>
+ * Consecutive lines of text are written in one text object, each line
+ * positioned relative to the previous one, until an image is drawn. The lines
+ * are collected into one path until their color or width changes, and each
+ * path is stroked once after the text and the images of the page. The paths
+ * are stroked in the order of their lines, so where lines of different colors
+ * cross, the line drawn last is still on top.<br>
+ * The content stream is compressed as given by the {@link PdfOutputProfile}.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+final class PageContent {
+
+	private static final int OUTPUT_BUFFER_SIZE = 8192;
+
+	private final PDDocument pdfDoc;
+	private final PDPage page;
+	private final PdfOutputProfile outputProfile;
+	private final List<ContentOperation> operations = new ArrayList<>();
+	private final List<LinePath> linePaths = new ArrayList<>();
+
+	// the graphics state at the end of the recorded operations, null or NaN
+	// until it is set
+	private PDFont font;
+	private float fontSize = Float.NaN;
+	private float[] nonStrokingColor;
+	private float[] strokingColor;
+	private float lineWidth = Float.NaN;
+	private boolean usesSubsetFont;
+
+	// the start of the last line of the open text object
+	private boolean inText;
+	private float lineXPosition;
+	private float lineYPosition;
+
+	// the path of the lines drawn since the color or width of the lines last
+	// changed
+	private LinePath linePath;
+
+	PageContent(PDDocument pdfDoc, PDPage page, PdfOutputProfile outputProfile) {
+		this.pdfDoc = pdfDoc;
+		this.page = page;
+		this.outputProfile = outputProfile;
+	}
+
+	PDPage getPage() {
+		return page;
+	}
+
+	/**
+	 * Whether the text of the page is written in a font which is subset. Writing
+	 * the page then adds to the subset of the font, so the page must not be
+	 * written concurrently with other pages using the font.
+	 */
+	boolean usesSubsetFont() {
+		return usesSubsetFont;
+	}
+
+	void setFont(PDFont font, float fontSize) {
+		if (font == this.font && fontSize == this.fontSize)
+			return;
+		this.font = font;
+		this.fontSize = fontSize;
+		if (font.willBeSubset())
+			usesSubsetFont = true;
+		operations.add(contentStream -> contentStream.setFont(font, fontSize));
+	}
+
+	/**
+	 * Sets the color of the text, with RGB components from 0 to 1.
+	 */
+	void setNonStrokingColor(float red, float green, float blue) {
+		if (isColor(nonStrokingColor, red, green, blue))
+			return;
+		nonStrokingColor = new float[] { red, green, blue };
+		PDColor color = new PDColor(nonStrokingColor, PDDeviceRGB.INSTANCE);
+		operations.add(contentStream -> contentStream.setNonStrokingColor(color));
+	}
+
+	/**
+	 * Sets the color of the lines, with RGB components from 0 to 1.
+	 */
+	void setStrokingColor(float red, float green, float blue) {
+		if (isColor(strokingColor, red, green, blue))
+			return;
+		strokingColor = new float[] { red, green, blue };
+		linePath = null;
+	}
+
+	void setLineWidth(float lineWidth) {
+		if (lineWidth == this.lineWidth)
+			return;
+		this.lineWidth = lineWidth;
+		linePath = null;
+	}
+
+	private static boolean isColor(float[] color, float red, float green, float blue) {
+		return color != null && color[0] == red && color[1] == green && color[2] == blue;
+	}
+
+	void showText(float xPositionFromLeft, float yPositionFromBottom, String text) {
+		if (inText) {
+			float xOffset = xPositionFromLeft - lineXPosition;
+			float yOffset = yPositionFromBottom - lineYPosition;
+			operations.add(contentStream -> {
+				contentStream.newLineAtOffset(xOffset, yOffset);
+				contentStream.showText(text);
+			});
+		} else {
+			operations.add(contentStream -> {
+				contentStream.beginText();
+				contentStream.newLineAtOffset(xPositionFromLeft, yPositionFromBottom);
+				contentStream.showText(text);
+			});
+			inText = true;
+		}
+		lineXPosition = xPositionFromLeft;
+		lineYPosition = yPositionFromBottom;
+	}
+
+	void strokeLine(float fromX, float fromY, float toX, float toY) {
+		if (linePath == null) {
+			linePath = new LinePath(strokingColor, lineWidth);
+			linePaths.add(linePath);
+		}
+		linePath.add(fromX, fromY, toX, toY);
+	}
+
+	void drawImage(PDImageXObject image, float xPositionFromLeft, float yPositionFromBottom, float width,
+			float height) {
+		endText();
+		operations.add(contentStream -> contentStream.drawImage(image, xPositionFromLeft, yPositionFromBottom, width,
+				height));
+	}
+
+	private void endText() {
+		if (inText)
+			operations.add(PDPageContentStream::endText);
+		inText = false;
+	}
+
+	/**
+	 * Writes the recorded operations and then the lines to a new content stream
+	 * of the page. The operations are released once written.
+	 */
+	void write() throws IOException {
+		endText();
+		try (PDPageContentStream contentStream = openContentStream()) {
+			for (ContentOperation operation : operations)
+				operation.writeTo(contentStream);
+			float[] pathColor = null;
+			float pathWidth = Float.NaN;
+			for (LinePath path : linePaths) {
+				if (path.color != null && !Arrays.equals(path.color, pathColor))
+					contentStream.setStrokingColor(new PDColor(path.color, PDDeviceRGB.INSTANCE));
+				if (!Float.isNaN(path.width) && Float.compare(path.width, pathWidth) != 0)
+					contentStream.setLineWidth(path.width);
+				pathColor = path.color;
+				pathWidth = path.width;
+				path.writeTo(contentStream);
+			}
+		}
+		if (outputProfile != PdfOutputProfile.DEFAULT && outputProfile != PdfOutputProfile.UNCOMPRESSED)
+			compressContentStream();
+		operations.clear();
+		linePaths.clear();
+	}
+
+	private PDPageContentStream openContentStream() throws IOException {
+		if (outputProfile == PdfOutputProfile.DEFAULT)
+			return new PDPageContentStream(pdfDoc, page);
+		return new PDPageContentStream(pdfDoc, page, AppendMode.OVERWRITE, false);
+	}
+
+	// PDFBox compresses with one level for the whole JVM, so the content is
+	// written uncompressed and then deflated with the level of the profile into
+	// a new stream, which replaces it
+	private void compressContentStream() throws IOException {
+		COSStream contents = (COSStream) page.getCOSObject().getDictionaryObject(COSName.CONTENTS);
+		COSStream compressedContents = pdfDoc.getDocument().createCOSStream();
+		compressedContents.setItem(COSName.FILTER, COSName.FLATE_DECODE);
+		Deflater deflater = new Deflater(outputProfile.getDeflateLevel());
+		try (InputStream inputStream = contents.createRawInputStream();
+				OutputStream outputStream = new DeflaterOutputStream(compressedContents.createRawOutputStream(),
+						deflater, OUTPUT_BUFFER_SIZE)) {
+			IOUtils.copy(inputStream, outputStream);
+		} finally {
+			deflater.end();
+			contents.close();
+		}
+		page.getCOSObject().setItem(COSName.CONTENTS, compressedContents);
+	}
+
+	private interface ContentOperation {
+
+		void writeTo(PDPageContentStream contentStream) throws IOException;
+	}
+
+	/**
+	 * The lines of one color and width, as the coordinates of their start and
+	 * end points.
+	 */
+	private static final class LinePath {
+
+		private final float[] color;
+		private final float width;
+		private float[] points = new float[64];
+		private int size;
+
+		LinePath(float[] color, float width) {
+			this.color = color;
+			this.width = width;
+		}
+
+		void add(float fromX, float fromY, float toX, float toY) {
+			if (size + 4 > points.length)
+				points = Arrays.copyOf(points, points.length * 2);
+			points[size++] = fromX;
+			points[size++] = fromY;
+			points[size++] = toX;
+			points[size++] = toY;
+		}
+
+		void writeTo(PDPageContentStream contentStream) throws IOException {
+			for (int i = 0; i < size; i += 4) {
+				contentStream.moveTo(points[i], points[i + 1]);
+				contentStream.lineTo(points[i + 2], points[i + 3]);
+			}
+			contentStream.stroke();
+		}
+	}
+}
@@ -0,0 +1,146 @@
+package com.sughelp.pdf.generator;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the content of the finished pages to their content streams. With one
+ * thread the content is written by the thread creating the pdf as soon as the
+ * page is finished. With more threads the pages are written on a fork join pool
+ * while the next pages are laid out, except the pages using a font which is
+ * subset, which are always written by the thread creating the pdf, see
+ * {@link PageContent#usesSubsetFont()}. At most two pages per thread are waiting
+ * to be written, so the recorded content of a long document is not held in
+ * memory.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+final class PageContentWriter implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(PageContentWriter.class);
+
+	private static final int MAX_PENDING_PAGES_PER_THREAD = 2;
+
+	private static final AtomicInteger threadCount = new AtomicInteger();
+	private static final ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = pool -> {
+		ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+		thread.setName("pdf-page-writer-" + threadCount.incrementAndGet());
+		return thread;
+	};
+
+	private final int threads;
+	private final Deque<Future<?>> pendingPages = new ArrayDeque<>();
+	// time of all the pages written, and of the pages written by the thread
+	// creating the pdf
+	private final AtomicLong writeNanos = new AtomicLong();
+	private long callerWriteNanos;
+	// created with the first page written concurrently
+	private ForkJoinPool pool;
+
+	PageContentWriter(int threads) {
+		this.threads = threads;
+	}
+
+	/**
+	 * Writes the content of a finished page, or submits it to be written. Waits
+	 * for the oldest pending page if too many pages are pending.
+	 */
+	void write(PageContent pageContent) throws IOException {
+		if (threads == 1 || pageContent.usesSubsetFont()) {
+			callerWriteNanos += timedWrite(pageContent);
+			return;
+		}
+		if (pool == null)
+			pool = new ForkJoinPool(threads, threadFactory, null, false);
+		pendingPages.add(pool.submit(() -> {
+			timedWrite(pageContent);
+			return null;
+		}));
+		while (pendingPages.size() > threads * MAX_PENDING_PAGES_PER_THREAD)
+			await(pendingPages.poll());
+	}
+
+	/**
+	 * The time in nano seconds of all the pages written so far. The time of a
+	 * pending page is added once it is written.
+	 */
+	long getWriteNanos() {
+		return writeNanos.get();
+	}
+
+	/**
+	 * The time in nano seconds of the pages written so far by the thread
+	 * creating the pdf.
+	 */
+	long getCallerWriteNanos() {
+		return callerWriteNanos;
+	}
+
+	private long timedWrite(PageContent pageContent) throws IOException {
+		long start = System.nanoTime();
+		pageContent.write();
+		long nanos = System.nanoTime() - start;
+		writeNanos.addAndGet(nanos);
+		return nanos;
+	}
+
+	/**
+	 * Waits till all the pages are written.
+	 *
+	 * @throws IOException
+	 *             if a page could not be written
+	 */
+	void finish() throws IOException {
+		while (!pendingPages.isEmpty())
+			await(pendingPages.poll());
+	}
+
+	/**
+	 * Waits till the pending pages of a failed document are written, so its
+	 * document can be closed. Their failures are ignored.
+	 */
+	void discard() {
+		while (!pendingPages.isEmpty()) {
+			try {
+				await(pendingPages.poll());
+			} catch (IOException | RuntimeException e) {
+				logger.debug("page of a discarded document could not be written", e);
+			}
+		}
+	}
+
+	private static void await(Future<?> pendingPage) throws IOException {
+		try {
+			pendingPage.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while writing the pages");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException)
+				throw (IOException) e.getCause();
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new IOException(e.getCause());
+		}
+	}
+
+	@Override
+	public void close() {
+		discard();
+		if (pool != null)
+			pool.shutdown();
+	}
+}
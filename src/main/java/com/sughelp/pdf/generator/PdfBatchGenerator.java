@@ -0,0 +1,215 @@
+package com.sughelp.pdf.generator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sughelp.pdf.generator.constants.PdfErrorDescription;
+import com.sughelp.pdf.generator.exception.PdfTemplateException;
+
+/**
+ * Creates many pdfs concurrently. The jobs are taken one by one from the given
+ * iterator by a pool of worker threads, so the jobs can be produced lazily and
+ * the batch does not have to be held in memory. Each pdf is written to the sink
+ * of its job as soon as it is created. Each worker creates all its pdfs with
+ * one {@link PdfGenerator}, which is reset between the pdfs.<br>
+ * A job which fails does not stop the batch, its error is reported in its
+ * {@link PdfBatchResult}. If the generator of a worker can not be reset for the
+ * next job, or a job fails with an {@link Error}, e.g. out of memory for a very
+ * large pdf, the job fails and the worker continues with a new generator.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public class PdfBatchGenerator {
+
+	private static final Logger logger = LoggerFactory.getLogger(PdfBatchGenerator.class);
+
+	private static final AtomicInteger threadCount = new AtomicInteger();
+	private static final ThreadFactory threadFactory = runnable -> new Thread(runnable,
+			"pdf-batch-" + threadCount.incrementAndGet());
+
+	private final int threads;
+	private final PdfGeneratorConfig config;
+
+	/**
+	 * Creates a batch generator with one worker per available processor and the
+	 * default configuration of the generators.
+	 */
+	public PdfBatchGenerator() {
+		this(Runtime.getRuntime().availableProcessors(), new PdfGeneratorConfig());
+	}
+
+	/**
+	 * Creates a batch generator.
+	 *
+	 * @param threads
+	 *            The number of pdfs created at the same time
+	 * @param config
+	 *            The configuration of the generators
+	 * @throws PdfTemplateException
+	 *             if the number of threads is not greater than 0
+	 */
+	public PdfBatchGenerator(int threads, PdfGeneratorConfig config) {
+		if (threads <= 0)
+			throw new PdfTemplateException(PdfErrorDescription.INVALID_BATCH_THREADS.getErrorDescription());
+		this.threads = threads;
+		this.config = config;
+	}
+
+	/**
+	 * Creates the pdfs of all the jobs.
+	 *
+	 * @param jobs
+	 *            The jobs to be run
+	 * @return The results of all the jobs
+	 * @throws InterruptedException
+	 *             if the thread is interrupted while waiting for the batch to
+	 *             finish
+	 */
+	public PdfBatchReport generate(Iterable<PdfBatchJob> jobs) throws InterruptedException {
+		return generate(jobs.iterator());
+	}
+
+	/**
+	 * Creates the pdfs of all the jobs. The iterator is accessed by one worker at
+	 * a time. If the iterator fails, the batch is stopped and its exception is
+	 * thrown. The workers are always stopped when this returns, so no pdf is
+	 * written to a sink afterwards.
+	 *
+	 * @param jobs
+	 *            The jobs to be run
+	 * @return The results of all the jobs
+	 * @throws InterruptedException
+	 *             if the thread is interrupted while waiting for the batch to
+	 *             finish
+	 */
+	public PdfBatchReport generate(Iterator<PdfBatchJob> jobs) throws InterruptedException {
+		long start = System.nanoTime();
+		List<PdfBatchResult> results = Collections.synchronizedList(new ArrayList<>());
+		ExecutorService executor = Executors.newFixedThreadPool(threads, threadFactory);
+		try {
+			// the workers are awaited in the order they finish, so the failure of
+			// one worker stops the others right away
+			CompletionService<Void> workers = new ExecutorCompletionService<>(executor);
+			for (int i = 0; i < threads; i++)
+				workers.submit(() -> {
+					work(jobs, results);
+					return null;
+				});
+			for (int i = 0; i < threads; i++)
+				workers.take().get();
+		} catch (ExecutionException e) {
+			// the failures of the jobs and of resetting the generators are in the
+			// results, so only the iterator of the jobs or creating a generator can
+			// fail a worker
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			if (e.getCause() instanceof Error)
+				throw (Error) e.getCause();
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+			awaitTermination(executor);
+		}
+		PdfBatchReport report = new PdfBatchReport(results, System.nanoTime() - start);
+		logger.info("batch finished :: {} pdfs created, {} failed, {} pdfs per second", report.getSuccessCount(),
+				report.getFailureCount(), report.getThroughput());
+		return report;
+	}
+
+	// waits till the running jobs are finished, even if this thread is
+	// interrupted, so no worker writes to a sink once the batch has returned
+	private static void awaitTermination(ExecutorService executor) {
+		boolean interrupted = false;
+		while (true) {
+			try {
+				if (executor.awaitTermination(1, TimeUnit.MINUTES))
+					break;
+				logger.warn("waiting for the running jobs of the batch to finish");
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted)
+			Thread.currentThread().interrupt();
+	}
+
+	// each worker reuses one generator, which is reset before every job except
+	// the first one. A generator which failed to reset or failed with an error
+	// is replaced by a new one.
+	private void work(Iterator<PdfBatchJob> jobs, List<PdfBatchResult> results) {
+		PdfGenerator pdfGenerator = new PdfGenerator(config);
+		try {
+			boolean used = false;
+			while (!Thread.currentThread().isInterrupted()) {
+				PdfBatchJob job;
+				synchronized (jobs) {
+					if (!jobs.hasNext())
+						return;
+					job = jobs.next();
+				}
+				long start = System.nanoTime();
+				try {
+					if (used)
+						pdfGenerator.reset();
+				} catch (IOException | RuntimeException e) {
+					logger.error("unable to reset the generator for batch job :: {}", job.getId(), e);
+					results.add(new PdfBatchResult(job.getId(), e, System.nanoTime() - start));
+					pdfGenerator = replace(pdfGenerator);
+					used = false;
+					continue;
+				}
+				used = true;
+				try {
+					results.add(run(pdfGenerator, job, start));
+				} catch (Error e) {
+					logger.error("unable to create pdf for batch job :: {}", job.getId(), e);
+					results.add(new PdfBatchResult(job.getId(), new ExecutionException(e), System.nanoTime() - start));
+					pdfGenerator = replace(pdfGenerator);
+					used = false;
+				}
+			}
+		} finally {
+			close(pdfGenerator);
+		}
+	}
+
+	private PdfGenerator replace(PdfGenerator pdfGenerator) {
+		close(pdfGenerator);
+		return new PdfGenerator(config);
+	}
+
+	private static void close(PdfGenerator pdfGenerator) {
+		try {
+			pdfGenerator.close();
+		} catch (IOException | RuntimeException e) {
+			logger.debug("generator of the batch could not be closed", e);
+		}
+	}
+
+	private PdfBatchResult run(PdfGenerator pdfGenerator, PdfBatchJob job, long start) {
+		try (OutputStream outputStream = job.getSink().open()) {
+			job.createPdf(pdfGenerator, outputStream);
+		} catch (Exception e) {
+			logger.error("unable to create pdf for batch job :: {}", job.getId(), e);
+			return new PdfBatchResult(job.getId(), e, System.nanoTime() - start);
+		}
+		return new PdfBatchResult(job.getId(), null, System.nanoTime() - start);
+	}
+}
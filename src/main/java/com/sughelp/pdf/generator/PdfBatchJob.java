@@ -0,0 +1,115 @@
+package com.sughelp.pdf.generator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A pdf to be created by {@link PdfBatchGenerator}, i.e. a template and the
+ * sink to which its pdf is written. The template can be a {@link Template}, a
+ * json String, a stream of json content, which is streamed in the same way as
+ * in {@link PdfGenerator#createPdfFile(InputStream, String)}, or a
+ * {@link CompiledTemplate} with the values of its placeholders.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public class PdfBatchJob {
+
+	private final String id;
+	private final Template template;
+	private final String templateContent;
+	private final InputStream templateStream;
+	private final CompiledTemplate compiledTemplate;
+	private final Object values;
+	private final PdfBatchSink sink;
+
+	/**
+	 * @param id
+	 *            The id of the job, which is also the name of the pdf set in meta
+	 *            data
+	 * @param template
+	 *            The template for which pdf will be generated
+	 * @param sink
+	 *            The sink to which the pdf will be written
+	 */
+	public PdfBatchJob(String id, Template template, PdfBatchSink sink) {
+		this(id, template, null, null, null, null, sink);
+	}
+
+	/**
+	 * @param id
+	 *            The id of the job, which is also the name of the pdf set in meta
+	 *            data
+	 * @param template
+	 *            The json content of the template for which pdf will be
+	 *            generated
+	 * @param sink
+	 *            The sink to which the pdf will be written
+	 */
+	public PdfBatchJob(String id, String template, PdfBatchSink sink) {
+		this(id, null, template, null, null, null, sink);
+	}
+
+	/**
+	 * @param id
+	 *            The id of the job, which is also the name of the pdf set in meta
+	 *            data
+	 * @param template
+	 *            The stream of the template for which pdf will be generated. It
+	 *            is closed once the template is read.
+	 * @param sink
+	 *            The sink to which the pdf will be written
+	 */
+	public PdfBatchJob(String id, InputStream template, PdfBatchSink sink) {
+		this(id, null, null, template, null, null, sink);
+	}
+
+	/**
+	 * @param id
+	 *            The id of the job, which is also the name of the pdf set in meta
+	 *            data
+	 * @param template
+	 *            The compiled template for which pdf will be generated. It can be
+	 *            shared by all the jobs.
+	 * @param values
+	 *            A {@link java.util.Map} or a bean with the values of the
+	 *            placeholders of the template
+	 * @param sink
+	 *            The sink to which the pdf will be written
+	 */
+	public PdfBatchJob(String id, CompiledTemplate template, Object values, PdfBatchSink sink) {
+		this(id, null, null, null, template, values, sink);
+	}
+
+	private PdfBatchJob(String id, Template template, String templateContent, InputStream templateStream,
+			CompiledTemplate compiledTemplate, Object values, PdfBatchSink sink) {
+		this.id = id;
+		this.template = template;
+		this.templateContent = templateContent;
+		this.templateStream = templateStream;
+		this.compiledTemplate = compiledTemplate;
+		this.values = values;
+		this.sink = sink;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public PdfBatchSink getSink() {
+		return sink;
+	}
+
+	void createPdf(PdfGenerator pdfGenerator, OutputStream outputStream) throws IOException {
+		if (template != null)
+			pdfGenerator.createPdf(template, id, outputStream);
+		else if (compiledTemplate != null)
+			pdfGenerator.createPdf(compiledTemplate, values, id, outputStream);
+		else if (templateContent != null)
+			pdfGenerator.createPdf(templateContent, id, outputStream);
+		else
+			pdfGenerator.createPdf(templateStream, id, outputStream);
+	}
+}
@@ -0,0 +1,58 @@
+package com.sughelp.pdf.generator;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Results of all the jobs of a batch run by {@link PdfBatchGenerator}, in the
+ * order they finished, and the throughput of the batch.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public class PdfBatchReport {
+
+	private final List<PdfBatchResult> results;
+	private final long elapsedNanos;
+	private final int failureCount;
+
+	PdfBatchReport(List<PdfBatchResult> results, long elapsedNanos) {
+		this.results = Collections.unmodifiableList(results);
+		this.elapsedNanos = elapsedNanos;
+		int failures = 0;
+		for (PdfBatchResult result : results)
+			if (!result.isSuccessful())
+				failures++;
+		this.failureCount = failures;
+	}
+
+	public List<PdfBatchResult> getResults() {
+		return results;
+	}
+
+	public int getSuccessCount() {
+		return results.size() - failureCount;
+	}
+
+	public int getFailureCount() {
+		return failureCount;
+	}
+
+	/**
+	 * Wall clock time taken by the batch.
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Number of jobs finished per second, successful or not.
+	 */
+	public double getThroughput() {
+		if (elapsedNanos == 0)
+			return 0;
+		return results.size() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+	}
+}
@@ -0,0 +1,54 @@
+package com.sughelp.pdf.generator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a {@link PdfBatchJob}.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public class PdfBatchResult {
+
+	private final String jobId;
+	private final Exception error;
+	private final long latencyNanos;
+
+	PdfBatchResult(String jobId, Exception error, long latencyNanos) {
+		this.jobId = jobId;
+		this.error = error;
+		this.latencyNanos = latencyNanos;
+	}
+
+	public String getJobId() {
+		return jobId;
+	}
+
+	/**
+	 * True if the pdf is written to the sink.
+	 */
+	public boolean isSuccessful() {
+		return error == null;
+	}
+
+	/**
+	 * The reason the job failed or null if it is successful. An {@link Error} of
+	 * the job, e.g. out of memory, is wrapped in an
+	 * {@link java.util.concurrent.ExecutionException}.
+	 */
+	public Exception getError() {
+		return error;
+	}
+
+	/**
+	 * Time taken to create the pdf and write it to the sink.
+	 */
+	public long getLatencyNanos() {
+		return latencyNanos;
+	}
+
+	public double getLatencyMillis() {
+		return latencyNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+	}
+}
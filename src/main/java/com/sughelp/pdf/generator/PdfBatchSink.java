@@ -0,0 +1,22 @@
+package com.sughelp.pdf.generator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Destination of the pdf of a {@link PdfBatchJob}. The stream is opened only
+ * when the job is run and it is closed once the pdf is written to it, so a
+ * batch of many jobs does not keep all the destinations open, e.g.
+ * <code>() -&gt; Files.newOutputStream(path)</code>.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public interface PdfBatchSink {
+
+	/**
+	 * Opens the stream to which the pdf will be written.
+	 */
+	OutputStream open() throws IOException;
+}
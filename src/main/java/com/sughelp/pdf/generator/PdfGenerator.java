@@ -1,31 +1,28 @@
 package com.sughelp.pdf.generator;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FilterOutputStream;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.Calendar;
-import java.util.HashMap;
-import java.util.List;
 
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentInformation;
 import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.pdmodel.PDPageContentStream;
-import org.apache.pdfbox.pdmodel.font.PDFont;
-import org.apache.pdfbox.pdmodel.font.PDType1Font;
-import org.apache.pdfbox.pdmodel.graphics.color.PDColor;
-import org.apache.pdfbox.pdmodel.graphics.color.PDDeviceRGB;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
 import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.JsonParseException;
-import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.sughelp.pdf.generator.constants.PdfConstants;
+import com.sughelp.pdf.generator.RowFragment.ColumnFragment;
+import com.sughelp.pdf.generator.constants.GenerationPhase;
 import com.sughelp.pdf.generator.constants.PdfErrorDescription;
 import com.sughelp.pdf.generator.constants.PdfTemplateDefaultValues;
-import com.sughelp.pdf.generator.exception.PdfPageSizeException;
 import com.sughelp.pdf.generator.exception.PdfTemplateException;
 
 /**
@@ -41,20 +38,93 @@ public class PdfGenerator implements AutoCloseable {
 
 	private static final Logger logger = LoggerFactory.getLogger(PdfGenerator.class);
 
-	private final PDDocument pdfDoc;
+	private static final float CELL_X_MARGIN = 3;
+	private static final float CELL_Y_MARGIN = 3;
+	private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+	static final PDRectangle PAGE_SIZE = PDRectangle.LETTER;
+
+	private final PdfGeneratorConfig config;
+	// kept across documents
+	private final ImageOptimizer imageOptimizer;
+	private final byte[] outputBuffer = new byte[OUTPUT_BUFFER_SIZE];
+	private final PageContentWriter pageContentWriter;
+	private final GenerationRecorder recorder = GenerationRecorder.create();
+	// reset for each row, so laying out a row does not allocate
+	private final RowLayout rowLayout = new RowLayout();
+	private final RowFragment rowFragment = new RowFragment();
+
+	private PDDocument pdfDoc;
+	private ImageRegistry imageRegistry;
+	private DocumentFonts documentFonts;
+	private GenerationMetrics metrics;
 	private PDPage page;
-	private PDPageContentStream contentStream;
+	// content of the page being laid out
+	private PageContent pageContent;
 
 	private float pageTopMargin;
 	private float pageBottomMargin;
 	private float pageHeight;
 	private float pageUsedHeight;
+	// y position of the next row of the table being created
+	private float rowYPosition;
 
 	/**
-	 *
+	 * Creates a generator with the default configuration.
 	 */
 	public PdfGenerator() {
-		pdfDoc = new PDDocument();
+		this(new PdfGeneratorConfig());
+	}
+
+	/**
+	 * Creates a generator with the given configuration. Please refer
+	 * {@link PdfGeneratorConfig} for the values which can be configured.
+	 * 
+	 * @param config
+	 *            The configuration of the generator
+	 */
+	public PdfGenerator(PdfGeneratorConfig config) {
+		this.config = config;
+		imageOptimizer = new ImageOptimizer(config);
+		pageContentWriter = new PageContentWriter(config.getPageWriteThreads());
+		startDocument();
+	}
+
+	/**
+	 * Closes the current document and starts a new one, so the generator can
+	 * create another pdf. A generator can create only one pdf per document, so
+	 * it must be reset before each pdf except the first one.<br>
+	 * The configuration and the buffers of the generator are kept, so a
+	 * generator can be reused, e.g. one generator per thread, instead of creating
+	 * a new one for each pdf. The image registry counts start again from zero.
+	 * 
+	 * @throws IOException
+	 *             if the current document can not be closed
+	 */
+	public void reset() throws IOException {
+		// the content of a failed pdf may not be written yet, it is discarded with
+		// its document
+		pageContentWriter.discard();
+		recorder.reset();
+		pageContent = null;
+		page = null;
+		pageTopMargin = 0;
+		pageBottomMargin = 0;
+		pageHeight = 0;
+		pageUsedHeight = 0;
+		rowYPosition = 0;
+		try {
+			pdfDoc.close();
+		} finally {
+			startDocument();
+		}
+		logger.debug("generator reset for a new document");
+	}
+
+	private void startDocument() {
+		pdfDoc = new PDDocument(config.getMemoryUsageSetting());
+		imageRegistry = new ImageRegistry(pdfDoc, imageOptimizer);
+		documentFonts = new DocumentFonts(pdfDoc);
+		metrics = new GenerationMetrics();
 	}
 
 	/**
@@ -70,12 +140,11 @@ public class PdfGenerator implements AutoCloseable {
 	 *             if the input template is not set with proper value
 	 */
 	public void createPdfFile(String template, String file) throws IOException, PdfTemplateException {
-		try {
-			ObjectMapper mapper = new ObjectMapper();
-			createPdfFile(mapper.readValue(template, Template.class), file);
-		} catch (JsonParseException | JsonMappingException e) {
-			throw new PdfTemplateException(PdfErrorDescription.INVALID_TEMPLATE.getErrorDescription(), e);
-		}
+		generate(() -> {
+			createDocument(readTemplate(template), getFileName(file));
+			saveFile(file);
+			return null;
+		});
 	}
 
 	/**
@@ -91,12 +160,57 @@ public class PdfGenerator implements AutoCloseable {
 	 *             if the input template is not set with proper value
 	 */
 	public byte[] createPdfByteArray(String template, String fileName) throws IOException, PdfTemplateException {
-		try {
-			ObjectMapper mapper = new ObjectMapper();
-			return createPdfByteArray(mapper.readValue(template, Template.class), fileName);
-		} catch (JsonParseException | JsonMappingException e) {
-			throw new PdfTemplateException(PdfErrorDescription.INVALID_TEMPLATE.getErrorDescription(), e);
-		}
+		return generate(() -> {
+			createDocument(readTemplate(template), fileName);
+			return saveByteArray();
+		});
+	}
+
+	/**
+	 * Creates a pdf document with values given in the template and save it to the
+	 * file specified. Here the template is json content read from a stream.<br>
+	 * The template is streamed, i.e. each row is written to the pdf as soon as it
+	 * is read, so the memory used does not depend on the number of rows. To
+	 * stream the template, the template properties must be defined before the
+	 * tables and the table properties before the rows. The stream is closed
+	 * once the template is read.
+	 * 
+	 * @param template
+	 *            The stream of the template for which pdf will be generated.
+	 * @param file
+	 *            The output file where the created pdf will be saved.
+	 * @throws IOException
+	 * @throws PdfTemplateException
+	 *             if the input template is not set with proper value
+	 */
+	public void createPdfFile(InputStream template, String file) throws IOException, PdfTemplateException {
+		generate(() -> {
+			createDocument(template, getFileName(file));
+			saveFile(file);
+			return null;
+		});
+	}
+
+	/**
+	 * Creates and return pdf byte array with contents given in the template. Here
+	 * the template is json content read from a stream.<br>
+	 * The template is streamed in the same way as in
+	 * {@link #createPdfFile(InputStream, String)}.
+	 * 
+	 * @param template
+	 *            The stream of the template for which pdf byte array will be
+	 *            generated.
+	 * @param fileName
+	 *            The name for the pdf file to set in meta data.
+	 * @throws IOException
+	 * @throws PdfTemplateException
+	 *             if the input template is not set with proper value
+	 */
+	public byte[] createPdfByteArray(InputStream template, String fileName) throws IOException, PdfTemplateException {
+		return generate(() -> {
+			createDocument(template, fileName);
+			return saveByteArray();
+		});
 	}
 
 	/**
@@ -112,9 +226,11 @@ public class PdfGenerator implements AutoCloseable {
 	 *             if the input template is not set with proper value
 	 */
 	public void createPdfFile(Template template, String file) throws IOException, PdfTemplateException {
-		createPdf(template, getFileName(file));
-		logger.info("saving pdf file :: {}", file);
-		pdfDoc.save(file);
+		generate(() -> {
+			createDocument(template, getFileName(file));
+			saveFile(file);
+			return null;
+		});
 	}
 
 	/**
@@ -130,33 +246,402 @@ public class PdfGenerator implements AutoCloseable {
 	 *             if the input template is not set with proper value
 	 */
 	public byte[] createPdfByteArray(Template template, String fileName) throws IOException, PdfTemplateException {
-		createPdf(template, fileName);
+		return generate(() -> {
+			createDocument(template, fileName);
+			return saveByteArray();
+		});
+	}
+
+	/**
+	 * Creates a pdf document with content given in the template and writes it to
+	 * the output stream. Here the template is a Java class {@link Template}.<br>
+	 * The document is written directly to the stream through a buffer, it is not
+	 * copied to a byte array first. The stream is flushed but not closed.
+	 * 
+	 * @param template
+	 *            The template for which pdf will be generated
+	 * @param fileName
+	 *            The name for the pdf file to set in meta data.
+	 * @param outputStream
+	 *            The stream to which the created pdf will be written.
+	 * @throws IOException
+	 * @throws PdfTemplateException
+	 *             if the input template is not set with proper value
+	 */
+	public void createPdf(Template template, String fileName, OutputStream outputStream)
+			throws IOException, PdfTemplateException {
+		generate(() -> {
+			createDocument(template, fileName);
+			save(outputStream);
+			return null;
+		});
+	}
+
+	/**
+	 * Creates a pdf document with content given in the template and writes it to
+	 * the output stream. Here the template is a String content.<br>
+	 * The document is written in the same way as in
+	 * {@link #createPdf(Template, String, OutputStream)}.
+	 * 
+	 * @param template
+	 *            The template for which pdf will be generated
+	 * @param fileName
+	 *            The name for the pdf file to set in meta data.
+	 * @param outputStream
+	 *            The stream to which the created pdf will be written.
+	 * @throws IOException
+	 * @throws PdfTemplateException
+	 *             if the input template is not set with proper value
+	 */
+	public void createPdf(String template, String fileName, OutputStream outputStream)
+			throws IOException, PdfTemplateException {
+		generate(() -> {
+			createDocument(readTemplate(template), fileName);
+			save(outputStream);
+			return null;
+		});
+	}
+
+	/**
+	 * Creates a pdf document with content given in the template and writes it to
+	 * the output stream. Here the template is json content read from a stream.
+	 * <br>
+	 * The template is streamed in the same way as in
+	 * {@link #createPdfFile(InputStream, String)} and the document is written in
+	 * the same way as in {@link #createPdf(Template, String, OutputStream)}.
+	 * 
+	 * @param template
+	 *            The stream of the template for which pdf will be generated
+	 * @param fileName
+	 *            The name for the pdf file to set in meta data.
+	 * @param outputStream
+	 *            The stream to which the created pdf will be written.
+	 * @throws IOException
+	 * @throws PdfTemplateException
+	 *             if the input template is not set with proper value
+	 */
+	public void createPdf(InputStream template, String fileName, OutputStream outputStream)
+			throws IOException, PdfTemplateException {
+		generate(() -> {
+			createDocument(template, fileName);
+			save(outputStream);
+			return null;
+		});
+	}
+
+	/**
+	 * Creates a pdf document with content given in the template and writes it to
+	 * the channel. Here the template is a Java class {@link Template}.<br>
+	 * The document is written directly to the channel through a buffer, it is not
+	 * copied to a byte array first. The channel is not closed.
+	 * 
+	 * @param template
+	 *            The template for which pdf will be generated
+	 * @param fileName
+	 *            The name for the pdf file to set in meta data.
+	 * @param channel
+	 *            The channel to which the created pdf will be written.
+	 * @throws IOException
+	 * @throws PdfTemplateException
+	 *             if the input template is not set with proper value
+	 */
+	public void createPdf(Template template, String fileName, WritableByteChannel channel)
+			throws IOException, PdfTemplateException {
+		createPdf(template, fileName, Channels.newOutputStream(channel));
+	}
+
+	/**
+	 * Creates a pdf document with content given in the template and writes it to
+	 * the channel. Here the template is a String content.<br>
+	 * The document is written in the same way as in
+	 * {@link #createPdf(Template, String, WritableByteChannel)}.
+	 * 
+	 * @param template
+	 *            The template for which pdf will be generated
+	 * @param fileName
+	 *            The name for the pdf file to set in meta data.
+	 * @param channel
+	 *            The channel to which the created pdf will be written.
+	 * @throws IOException
+	 * @throws PdfTemplateException
+	 *             if the input template is not set with proper value
+	 */
+	public void createPdf(String template, String fileName, WritableByteChannel channel)
+			throws IOException, PdfTemplateException {
+		createPdf(template, fileName, Channels.newOutputStream(channel));
+	}
+
+	/**
+	 * Creates a pdf document with content given in the template and writes it to
+	 * the channel. Here the template is json content read from a stream.<br>
+	 * The template is streamed in the same way as in
+	 * {@link #createPdfFile(InputStream, String)} and the document is written in
+	 * the same way as in {@link #createPdf(Template, String, WritableByteChannel)}.
+	 * 
+	 * @param template
+	 *            The stream of the template for which pdf will be generated
+	 * @param fileName
+	 *            The name for the pdf file to set in meta data.
+	 * @param channel
+	 *            The channel to which the created pdf will be written.
+	 * @throws IOException
+	 * @throws PdfTemplateException
+	 *             if the input template is not set with proper value
+	 */
+	public void createPdf(InputStream template, String fileName, WritableByteChannel channel)
+			throws IOException, PdfTemplateException {
+		createPdf(template, fileName, Channels.newOutputStream(channel));
+	}
+
+	/**
+	 * Creates a pdf document with the compiled template and the values bound to
+	 * its placeholders and writes it to the output stream. Please refer
+	 * {@link CompiledTemplate}.<br>
+	 * The template is validated when it is compiled, so only the values are
+	 * bound here. The document is written in the same way as in
+	 * {@link #createPdf(Template, String, OutputStream)}.
+	 * 
+	 * @param template
+	 *            The compiled template for which pdf will be generated
+	 * @param values
+	 *            A {@link java.util.Map} or a bean with the values of the
+	 *            placeholders
+	 * @param fileName
+	 *            The name for the pdf file to set in meta data.
+	 * @param outputStream
+	 *            The stream to which the created pdf will be written.
+	 * @throws IOException
+	 * @throws PdfTemplateException
+	 *             if there is no value for a placeholder
+	 */
+	public void createPdf(CompiledTemplate template, Object values, String fileName, OutputStream outputStream)
+			throws IOException, PdfTemplateException {
+		generate(() -> {
+			createDocument(template, values, fileName);
+			save(outputStream);
+			return null;
+		});
+	}
+
+	/**
+	 * Creates and return pdf byte array with the compiled template and the values
+	 * bound to its placeholders. Please refer {@link CompiledTemplate}.
+	 * 
+	 * @param template
+	 *            The compiled template for which pdf byte array will be generated
+	 * @param values
+	 *            A {@link java.util.Map} or a bean with the values of the
+	 *            placeholders
+	 * @param fileName
+	 *            The name for the pdf file to set in meta data.
+	 * @throws IOException
+	 * @throws PdfTemplateException
+	 *             if there is no value for a placeholder
+	 */
+	public byte[] createPdfByteArray(CompiledTemplate template, Object values, String fileName)
+			throws IOException, PdfTemplateException {
+		return generate(() -> {
+			createDocument(template, values, fileName);
+			return saveByteArray();
+		});
+	}
+
+	/**
+	 * Creates a pdf document with the compiled template and the values bound to
+	 * its placeholders and save it to the file specified. Please refer
+	 * {@link CompiledTemplate}.
+	 * 
+	 * @param template
+	 *            The compiled template for which pdf will be generated
+	 * @param values
+	 *            A {@link java.util.Map} or a bean with the values of the
+	 *            placeholders
+	 * @param file
+	 *            The output file where the created pdf will be saved.
+	 * @throws IOException
+	 * @throws PdfTemplateException
+	 *             if there is no value for a placeholder
+	 */
+	public void createPdfFile(CompiledTemplate template, Object values, String file)
+			throws IOException, PdfTemplateException {
+		generate(() -> {
+			createDocument(template, values, getFileName(file));
+			saveFile(file);
+			return null;
+		});
+	}
+
+	// the document is recorded from the start of the public method creating the
+	// pdf. The events of a pdf which fails are dropped, so they are not recorded
+	// with the next pdf.
+	private <T> T generate(Generation<T> generation) throws IOException {
+		recorder.beginDocument();
+		boolean generated = false;
+		try {
+			T result = generation.run();
+			generated = true;
+			return result;
+		} finally {
+			if (!generated)
+				recorder.reset();
+		}
+	}
+
+	private Template readTemplate(String template) throws IOException {
+		long start = System.nanoTime();
+		Template readTemplate = TemplateReader.read(template);
+		metrics.addNanos(GenerationPhase.PARSE, System.nanoTime() - start);
+		return readTemplate;
+	}
+
+	private void saveFile(String file) throws IOException {
+		logger.info("saving pdf file :: {}", file);
+		recorder.beginSave();
+		long start = System.nanoTime();
+		pdfDoc.save(file);
+		metrics.addNanos(GenerationPhase.SAVE, System.nanoTime() - start);
+		metrics.setByteCount(new File(file).length());
+		recorder.endSave(metrics.getByteCount());
+		documentGenerated();
+	}
+
+	private byte[] saveByteArray() throws IOException {
 		logger.info("saving pdf byte array...");
+		recorder.beginSave();
+		long start = System.nanoTime();
 		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
 		pdfDoc.save(byteArrayOutputStream);
-		return byteArrayOutputStream.toByteArray();
+		byte[] pdf = byteArrayOutputStream.toByteArray();
+		metrics.addNanos(GenerationPhase.SAVE, System.nanoTime() - start);
+		metrics.setByteCount(pdf.length);
+		recorder.endSave(pdf.length);
+		documentGenerated();
+		return pdf;
+	}
+
+	// PDDocument.save closes the stream and writes it in small chunks, so the
+	// caller's stream is wrapped in a buffer which does not close it
+	private void save(OutputStream outputStream) throws IOException {
+		logger.info("saving pdf to output stream...");
+		recorder.beginSave();
+		long start = System.nanoTime();
+		NonClosingBufferedOutputStream bufferedOutputStream = new NonClosingBufferedOutputStream(outputStream,
+				outputBuffer);
+		pdfDoc.save(bufferedOutputStream);
+		metrics.addNanos(GenerationPhase.SAVE, System.nanoTime() - start);
+		metrics.setByteCount(bufferedOutputStream.getByteCount());
+		recorder.endSave(bufferedOutputStream.getByteCount());
+		documentGenerated();
+	}
+
+	private void documentGenerated() {
+		metrics.setPageCount(pdfDoc.getNumberOfPages());
+		recorder.endDocument(metrics);
+		config.getGenerationListener().documentGenerated(metrics);
 	}
 
-	private void createPdf(Template template, String fileName) throws IOException {
+	private void createDocument(Template template, String fileName) throws IOException {
+		createDocument(template, null, fileName);
+	}
+
+	// the compiled template is validated, so its tables are not validated again
+	private void createDocument(CompiledTemplate compiledTemplate, Object values, String fileName)
+			throws IOException {
+		long start = System.nanoTime();
+		Template template = compiledTemplate.bind(values);
+		metrics.addNanos(GenerationPhase.PARSE, System.nanoTime() - start);
+		createDocument(template, compiledTemplate, fileName);
+	}
+
+	private void createDocument(Template template, CompiledTemplate compiledTemplate, String fileName)
+			throws IOException {
+		prefetchImages(template);
+		LayoutTimer layoutTimer = new LayoutTimer();
+		startPdf(template, fileName);
+		for (int i = 0; i < template.getTables().size(); i++) {
+			Table table = template.getTables().get(i);
+			if (table.getRows() == null)
+				throw new PdfTemplateException(PdfErrorDescription.NO_ROWS_DEFINED.getErrorDescription());
+			TableLayout tableLayout = compiledTemplate == null ? startTable(table)
+					: startTable(table, compiledTemplate.getTableGeometry(i));
+			for (int j = 0; j < table.getRows().size(); j++)
+				createRow(tableLayout, table.getRows().get(j), j,
+						compiledTemplate == null ? null : compiledTemplate.getFontMetrics(i, j));
+			endTable(tableLayout, i, table.getRows().size());
+		}
+		finishPages();
+		layoutTimer.stop();
+		logImageRegistry();
+	}
+
+	// creates the pdf while the template is read from the stream. Each row is
+	// written as soon as it is read and it is not referenced after that.
+	private void createDocument(InputStream template, String fileName) throws IOException {
+		LayoutTimer layoutTimer = new LayoutTimer();
+		long start = System.nanoTime();
+		TimedTemplateHandler handler = new TimedTemplateHandler(new TemplateHandler() {
+
+			private int tableIndex = -1;
+			private int rowIndex;
+			private TableLayout tableLayout;
+
+			@Override
+			public void startTemplate(Template template) throws IOException {
+				startPdf(template, fileName);
+			}
+
+			@Override
+			public void startTable(Table table) throws IOException {
+				tableIndex++;
+				rowIndex = 0;
+				tableLayout = PdfGenerator.this.startTable(table);
+			}
+
+			@Override
+			public void row(Table table, Row row) throws IOException {
+				createRow(tableLayout, row, rowIndex++, null);
+			}
+
+			@Override
+			public void endTable(Table table) throws IOException {
+				PdfGenerator.this.endTable(tableLayout, tableIndex, rowIndex);
+			}
+		});
+		TemplateReader.stream(template, handler);
+		// the time out of the handler is the time of reading the json
+		metrics.addNanos(GenerationPhase.PARSE, System.nanoTime() - start - handler.getNanos());
+		finishPages();
+		layoutTimer.stop();
+		logImageRegistry();
+	}
+
+	private void logImageRegistry() {
+		logger.debug("image registry hits = {} , misses = {}", imageRegistry.getHits(), imageRegistry.getMisses());
+	}
+
+	private void prefetchImages(Template template) throws IOException {
+		if (config.getImagePrefetchThreads() == 0)
+			return;
+		long start = System.nanoTime();
+		try {
+			imageRegistry.setPrefetchedImages(ImagePrefetcher.prefetch(template, config.getImagePrefetchExecutor(),
+					config.getImagePrefetchTimeoutMillis()));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while prefetching the images");
+		} finally {
+			metrics.addNanos(GenerationPhase.IMAGE_FETCH, System.nanoTime() - start);
+		}
+	}
+
+	private void startPdf(Template template, String fileName) throws IOException {
 		setPdfInformation(fileName);
+		metrics.setFileName(fileName);
 		logger.info("Document created");
 		createNewPage();
 		pageTopMargin = template.getTopMargin();
 		pageBottomMargin = template.getBottomMargin();
 		logger.debug("Input template top margin = {} and bottom margin = {}", pageTopMargin, pageBottomMargin);
-		for (int i = 0; i < template.getTables().size(); i++) {
-			Table table = template.getTables().get(i);
-			// condition to set tables y position of tables
-			table.setyPositionFromBottom(pageHeight - pageTopMargin - table.getTopMargin() - pageUsedHeight);
-			createTable(table);
-			logger.info("Table content created successfully for :: table{}", i + 1);
-			logger.debug("table{} height in the current page = {}", i + 1, table.getHeight());
-			pageUsedHeight += table.getHeight() + table.getTopMargin();
-			if (pageUsedHeight >= pageHeight)
-				pageUsedHeight = 0;
-			logger.info("Page used height = {}", pageUsedHeight);
-		}
-		closeContentStream();
 	}
 
 	private String getFileName(String file) {
@@ -181,317 +666,201 @@ public class PdfGenerator implements AutoCloseable {
 		pdi.setKeywords("Sughelp");
 	}
 
-	private void closeContentStream() throws IOException {
-		if (contentStream != null)
-			contentStream.close();
+	// the pages are laid out one after the other, and the content of each
+	// finished page is written while the next ones are laid out
+	private void finishPage() throws IOException {
+		if (pageContent != null) {
+			recorder.endPage();
+			pageContentWriter.write(pageContent);
+		}
+		pageContent = null;
+	}
+
+	private void finishPages() throws IOException {
+		finishPage();
+		pageContentWriter.finish();
 	}
 
 	private void createNewPage() throws IOException {
-		logger.info("******* creating new page *******");
-		page = new PDPage();
+		logger.debug("******* creating new page *******");
+		page = new PDPage(PAGE_SIZE);
 		pdfDoc.addPage(page);
-		closeContentStream();
-		contentStream = new PDPageContentStream(pdfDoc, page);
+		finishPage();
+		recorder.beginPage(pdfDoc.getNumberOfPages());
+		pageContent = new PageContent(pdfDoc, page, config.getOutputProfile());
 		pageHeight = page.getMediaBox().getHeight();
-		logger.info("Height = {} , Width = {} ", pageHeight, page.getMediaBox().getWidth());
+		// guarded, so the sizes are not boxed for each page
+		if (logger.isDebugEnabled())
+			logger.debug("Height = {} , Width = {} ", pageHeight, page.getMediaBox().getWidth());
 		// reset page used height to zero when creating a new page
 		pageUsedHeight = 0;
-		logger.info("******* page created *******");
-	}
-
-	private Table createTable(Table table) throws IOException {
-		validateTableData(table);
-		float tableWidth = calculateTableWidth(table, table.getLeftMargin(), table.getRightMargin(), page);
-		table.setWidth(tableWidth);
-		HashMap<Integer, Float> columnWidthMap = new HashMap<>();
-		validateColumnWidthRatio(table, columnWidthMap, tableWidth);
-		createRows(table, columnWidthMap);
-		drawTableBorder(table, table.getLeftMargin(), table.getyPositionFromBottom(), table.getWidth(),
-				table.getHeight());
-		return table;
-	}
-
-	private void validateTableData(Table table) {
-		if (table.getRows() == null)
-			throw new PdfTemplateException(PdfErrorDescription.NO_ROWS_DEFINED.getErrorDescription());
-		if (table.getTotalColumnCount() == 0)
-			throw new PdfTemplateException(PdfErrorDescription.TOTAL_COLUMN_COUNT_EMPTY.getErrorDescription());
-		if (table.getColumnWidthRatios() != null && table.getColumnWidthRatios().size() != table.getTotalColumnCount())
-			throw new PdfTemplateException(PdfErrorDescription.INVALID_COLUMN_RATIO_COUNT.getErrorDescription());
-	}
-
-	private float calculateTableWidth(Table table, float leftMargin, float rightMargin, PDPage page) {
-		float tableWidth;
-		if (table.getWidthRatio() < 0 || table.getWidthRatio() > 1)
-			throw new PdfTemplateException(PdfErrorDescription.INVALID_TABLE_WIDTH_RATIO.getErrorDescription());
-		tableWidth = (page.getMediaBox().getWidth() - (leftMargin + rightMargin)) * table.getWidthRatio();
-		return tableWidth;
-	}
-
-	private void validateColumnWidthRatio(Table table, HashMap<Integer, Float> columnWidthMap, float tableWidth) {
-		float totalColumnWidthRatio = 0;
-		if (table.getColumnWidthRatios() == null || table.getColumnWidthRatios().isEmpty()) {
-			for (int i = 0; i < table.getTotalColumnCount(); i++)
-				columnWidthMap.put(i, tableWidth / (float) table.getTotalColumnCount());
-			totalColumnWidthRatio = 1;
-		} else {
-			for (int i = 0; i < table.getColumnWidthRatios().size(); i++) {
-				float ratio = table.getColumnWidthRatios().get(i);
-				float size = tableWidth * ratio;
-				columnWidthMap.put(i, size);
-				totalColumnWidthRatio = totalColumnWidthRatio + ratio;
-			}
-		}
-		if (totalColumnWidthRatio < 0.99 || totalColumnWidthRatio > 1.01)
-			throw new PdfTemplateException(PdfErrorDescription.INVALID_COLUMN_WIDTH_RATIO.getErrorDescription());
+		logger.debug("******* page created *******");
+	}
+
+	private TableLayout startTable(Table table) {
+		return startTable(table, TableGeometry.of(table, page.getMediaBox().getWidth()));
+	}
 
+	// the layout state of the table is kept in its layout, so the template is not
+	// modified while the pdf is created
+	private TableLayout startTable(Table table, TableGeometry tableGeometry) {
+		recorder.beginTable();
+		// condition to set tables y position of tables
+		TableLayout tableLayout = new TableLayout(table, tableGeometry,
+				pageHeight - pageTopMargin - table.getTopMargin() - pageUsedHeight);
+		rowYPosition = tableLayout.getyPositionFromBottom() - CELL_Y_MARGIN;
+		return tableLayout;
 	}
 
-	private void createRows(Table table, HashMap<Integer, Float> columnWidthMap) throws IOException {
-		final float cellXMargin = 3;
-		final float cellYMargin = 3;
+	private void endTable(TableLayout tableLayout, int tableIndex, int rowCount) throws IOException {
+		drawTableBorder(tableLayout, tableLayout.getTable().getLeftMargin(), tableLayout.getyPositionFromBottom(),
+				tableLayout.getWidth(), tableLayout.getHeight());
+		recorder.endTable(tableIndex + 1, rowCount);
+		if (logger.isDebugEnabled()) {
+			logger.debug("Table content created successfully for :: table{}", tableIndex + 1);
+			logger.debug("table{} height in the current page = {}", tableIndex + 1, tableLayout.getHeight());
+		}
+		pageUsedHeight += tableLayout.getHeight() + tableLayout.getTopMargin();
+		if (pageUsedHeight >= pageHeight)
+			pageUsedHeight = 0;
+		if (logger.isDebugEnabled())
+			logger.debug("Page used height = {}", pageUsedHeight);
+	}
+
+	// the fonts of the columns are resolved for each row, unless they are
+	// resolved by the compiled template
+	private void createRow(TableLayout tableLayout, Row row, int rowIndex, FontMetrics[] fontMetrics)
+			throws IOException {
+		final float cellXMargin = CELL_X_MARGIN;
+		final float cellYMargin = CELL_Y_MARGIN;
+		Table table = tableLayout.getTable();
 		float textx = table.getLeftMargin() + cellXMargin;
-		float texty = table.getyPositionFromBottom() - cellYMargin;
-		table.setHeight(0);
-		for (int i = 0; i < table.getRows().size(); i++) {
+		float texty = rowYPosition;
+		if (row.getColumns() == null)
+			throw new PdfTemplateException(PdfErrorDescription.NO_COLUMNS_DEFINED.getErrorDescription());
+		metrics.addRow();
 
-			Row row = table.getRows().get(i);
-			if (row.getColumns() == null)
-				throw new PdfTemplateException(PdfErrorDescription.NO_COLUMNS_DEFINED.getErrorDescription());
+		convertColumnTextToLines(tableLayout, row, fontMetrics, cellXMargin, cellYMargin);
+		rowLayout.setHeight(calculateRowHeight(rowLayout, cellYMargin));
 
-			convertColumnTextToLines(table, row, columnWidthMap, cellXMargin, cellYMargin);
-			row.setHeight(calculateRowHeight(row.getColumns(), cellYMargin));
+		// if the page finishes while creating the column, then this boolean
+		// will become true.If this boolean is true then a new page will be created as
+		// shown in below while loop and the remaining content of the row will be
+		// written in new page and it continues till all the content is written
+		boolean createNewPage = createColumns(tableLayout, rowLayout, textx, texty, cellXMargin, cellYMargin);
 
-			// if the page finishes while creating the column, then this boolean
-			// will become true.If this boolean is true then a new page will be created as
-			// shown in below while loop and the remaining content of the row will be
-			// written in new page and it continues till all the content is written
-			boolean createNewPage = createColumns(table, row, columnWidthMap, textx, texty, cellXMargin, cellYMargin);
+		// column Y position will be the next row position
+		texty -= rowLayout.getHeight();
+		tableLayout.setHeight(tableLayout.getHeight() + rowLayout.getHeight());
+		drawCellBorder(rowLayout, table.getLeftMargin(), tableLayout.getyPositionFromBottom() - tableLayout.getHeight(),
+				tableLayout.getWidth(), tableLayout.getColumnWidths());
 
-			// resetting the column X position to initial position after creating one row.
+		while (createNewPage) {
+			if (logger.isDebugEnabled())
+				logger.debug("Page height exceeded while creating row{}", rowIndex + 1);
+			// draw boundary of the table of previous page
+			drawTableBorder(tableLayout, table.getLeftMargin(), tableLayout.getyPositionFromBottom(),
+					tableLayout.getWidth(), tableLayout.getHeight());
+			// create new page
+			createNewPage();
+			// reset table properties after creating new page
+			resetTableOnNewPageStart(tableLayout);
 			textx = table.getLeftMargin() + cellXMargin;
+			texty = tableLayout.getyPositionFromBottom() - cellYMargin;
+			rowLayout.setHeight(calculateRowHeight(rowLayout, cellYMargin));
+			// continue writing the contents to new page.
+			createNewPage = createColumns(tableLayout, rowLayout, textx, texty, cellXMargin, cellYMargin);
 			// column Y position will be the next row position
-			texty -= row.getHeight();
-			table.setHeight(table.getHeight() + row.getHeight());
-			drawCellBorder(row, table.getLeftMargin(), table.getyPositionFromBottom() - table.getHeight(),
-					table.getWidth(), columnWidthMap);
-
-			while (createNewPage) {
-				logger.info("Page height exceeded while creating row{}", i + 1);
-				// draw boundary of the table of previous page
-				drawTableBorder(table, table.getLeftMargin(), table.getyPositionFromBottom(), table.getWidth(),
-						table.getHeight());
-				// create new page
-				createNewPage();
-				// reset table properties after creating new page
-				resetTableOnNewPageStart(table);
-				textx = table.getLeftMargin() + cellXMargin;
-				texty = table.getyPositionFromBottom() - cellYMargin;
-				row.setHeight(calculateRowHeight(row.getColumns(), cellYMargin));
-				// continue writing the contents to new page.
-				createNewPage = createColumns(table, row, columnWidthMap, textx, texty, cellXMargin, cellYMargin);
-				// resetting the column X position to initial position after creating one row.
-				textx = table.getLeftMargin() + cellXMargin;
-				// column Y position will be the next row position
-				texty -= row.getHeight();
-				table.setHeight(table.getHeight() + row.getHeight());
-
-				// draw cell border of first row in new page
-				drawCellBorder(row, table.getLeftMargin(), table.getyPositionFromBottom() - table.getHeight(),
-						table.getWidth(), columnWidthMap);
-			}
+			texty -= rowLayout.getHeight();
+			tableLayout.setHeight(tableLayout.getHeight() + rowLayout.getHeight());
 
+			// draw cell border of first row in new page
+			drawCellBorder(rowLayout, table.getLeftMargin(),
+					tableLayout.getyPositionFromBottom() - tableLayout.getHeight(), tableLayout.getWidth(),
+					tableLayout.getColumnWidths());
 		}
-
+		rowYPosition = texty;
 	}
 
 	// resetting the table y position in new page to top margin position, as in new
 	// page the table will start from top margin irrespective of it's start position
 	// in previous page. Also, the height and top margin of table will be zero as the
 	// table is started from top in new page.
-	private void resetTableOnNewPageStart(Table table) {
-		table.setyPositionFromBottom(pageHeight - pageTopMargin);
-		table.setHeight(0);
-		table.setTopMargin(0);
+	private void resetTableOnNewPageStart(TableLayout tableLayout) {
+		tableLayout.setyPositionFromBottom(pageHeight - pageTopMargin);
+		tableLayout.setHeight(0);
+		tableLayout.setTopMargin(0);
 	}
 
-	private void convertColumnTextToLines(Table table, Row row, HashMap<Integer, Float> columnWidthMap,
+	// splits the text of the columns into the lines of the row layout
+	private void convertColumnTextToLines(TableLayout tableLayout, Row row, FontMetrics[] rowFontMetrics,
 			float cellXMargin, float cellYMargin) throws IOException {
+		Table table = tableLayout.getTable();
+		float[] columnWidths = tableLayout.getColumnWidths();
+		rowLayout.reset(row, table.getTotalColumnCount());
 		for (int j = 0; j < table.getTotalColumnCount(); j++) {
 			Column column = row.getColumns().get(j);
 			float fontSize = column.getFontSize();
-			PDFont pdfFont = getFontType(column, row.getIsHeader());
-			float colWidth = columnWidthMap.get(j);
+			FontMetrics fontMetrics = rowFontMetrics == null ? FontMetrics.of(column, row.getIsHeader())
+					: rowFontMetrics[j];
+			float colWidth = columnWidths[j];
 			// subtracting with one more cellXMargin for extra margin at end of cell.
 			// Otherwise, the cell value is touching the column right border
 			float colTextMaxWidth = colWidth - (2 * cellXMargin) - cellXMargin;
 			String text = column.getText() == null ? "" : column.getText();
-			text = text.replace("\r", "");
-			List<String> multilines = splitTextToMultiLines(pdfFont, fontSize, colTextMaxWidth, text);
-			column.setTextLines(multilines);
+			// the text is copied only if it has carriage returns
+			if (text.indexOf('\r') >= 0)
+				text = text.replace("\r", "");
+			ColumnLayout columnLayout = rowLayout.getColumn(j);
+			columnLayout.reset(column, fontMetrics);
+			LineBreaker.split(fontMetrics, fontSize, colTextMaxWidth, text, columnLayout.getTextLines());
 		}
 	}
 
-	private float calculateRowHeight(List<Column> columns, float cellYMargin) {
+	float calculateRowHeight(RowLayout rowLayout, float cellYMargin) {
 		float rowHeight = 0;
-		for (Column column : columns) {
+		for (int j = 0; j < rowLayout.getColumnCount(); j++) {
+			ColumnLayout columnLayout = rowLayout.getColumn(j);
+			Column column = columnLayout.getColumn();
 			float columnHeight;
-			if (column.getContentType().equals(PdfConstants.CONTENT_TYPE_IMAGE.getValue()))
+			if (columnLayout.isImage())
 				columnHeight = column.getImageHeight() + cellYMargin * 2;
 			else {
-				float textHeight = column.getFontSize() * getFontType(column, false).getFontDescriptor().getCapHeight()
+				float textHeight = column.getFontSize() * columnLayout.getRowHeightFontMetrics().getCapHeight()
 						/ 1000;
-				columnHeight = (textHeight + cellYMargin) * (column.getTextLines().size() + 1);
+				columnHeight = (textHeight + cellYMargin) * (columnLayout.getTextLines().size() + 1);
 			}
-			column.setHeight(columnHeight);
-			if (rowHeight < column.getHeight())
-				rowHeight = column.getHeight();
+			columnLayout.setHeight(columnHeight);
+			if (rowHeight < columnLayout.getHeight())
+				rowHeight = columnLayout.getHeight();
 		}
 		return rowHeight;
 	}
 
-	private boolean createColumns(Table table, Row row, HashMap<Integer, Float> columnWidthMap, float textx,
-			float texty, float cellXMargin, float cellYMargin) throws IOException {
-		float columnHeight = 0;
-		boolean isPageFinished = false;
-		for (int j = 0; j < table.getTotalColumnCount(); j++) {
-			Column column = row.getColumns().get(j);
-			float fontSize = column.getFontSize();
-			PDFont pdfFont = getFontType(column, row.getIsHeader());
-			contentStream.setFont(pdfFont, fontSize);
-			float textHeight = fontSize * pdfFont.getFontDescriptor().getCapHeight() / 1000;
-			float colWidth = columnWidthMap.get(j);
-			if (column.getContentType().equals(PdfConstants.CONTENT_TYPE_IMAGE.getValue())) {
-				columnHeight = column.getImageHeight() + cellYMargin;
-				if ((colWidth - 2 * cellXMargin) < column.getImageHeight())
-					column.setImageWidth(colWidth - 2 * cellXMargin);
-				float textXPosition = textx
-						+ calculateHorizontalGravityDelta(column, colWidth, column.getImageWidth(), cellXMargin);
-				float textYPosition = texty - columnHeight;
-				if (row.getHeight() > column.getHeight())
-					textYPosition = textYPosition
-							- calculateVerticalGravityDelta(column, row.getHeight(), columnHeight, cellYMargin);
-				drawImage(textXPosition, textYPosition, column.getImageUrl(), column.getImageFile(),
-						column.getImageWidth(), column.getImageHeight());
-				// Once the image is drawn, we will not render it again in case of
-				// PdfPageSizeException. We will ignore it. We will reset the image once
-				// rendered, so if this row is called again due to PdfPageSizeException
-				// for text values, this image will not drawn again
-				column.resetImage();
-			} else {
-				columnHeight = textHeight + cellYMargin;
-				List<String> textLines = column.getTextLines();
-				int lineNo = 0;
-				for (int k = 0; k < textLines.size(); k++) {
-					try {
-						float textWidth = fontSize * pdfFont.getStringWidth(textLines.get(k)) / 1000;
-						float textXPosition = textx
-								+ calculateHorizontalGravityDelta(column, colWidth, textWidth, cellXMargin);
-						float textYPosition = texty - columnHeight;
-						// Previously calculated row height and column height. Max column height is the
-						// row height. So, if row height and column height are same, then for that
-						// column we will not do vertical alignment as that is the base column and all
-						// other column's vertical alignment will be based on that.
-						if (row.getHeight() > column.getHeight())
-							textYPosition = textYPosition
-									- calculateVerticalGravityDelta(column, row.getHeight(), columnHeight, cellYMargin);
-						writeText(textXPosition, textYPosition, textLines.get(k), column.getTextColorComponents());
-						columnHeight = columnHeight + textHeight + cellYMargin;
-						lineNo++;
-					} catch (PdfPageSizeException e) {
-						logger.debug("column{} :: {}", j + 1, e.getMessage());
-						// even if page is finished while writing one cell, we should continue with
-						// remaining cell of the row. And after finishing all the cells, we will inform
-						// the caller
-						// that page has finished, so the calling method will create new page.
-						isPageFinished = true;
-						row.setHeight(columnHeight);
-						break;
-					}
-				}
-				// from the current cell remove all the text lines which are
-				// already written
-				column.removeTextLines(lineNo);
-			}
-			textx += colWidth;
-		}
-
-		return isPageFinished;
-	}
-
-	private float calculateHorizontalGravityDelta(Column column, float colWidth, float contentWidth,
-			float cellXMargin) {
-		// 2 * cellXMargin is also subtracted from colWidth, so that the newly aligned
-		// content will also maintain horizontal margin
-		if (column.getHorizontalGravity().equals(PdfConstants.COLUMN_GRAVITY_CENTER.getValue()))
-			return (colWidth - contentWidth - cellXMargin * 2) / 2;
-		else if (column.getHorizontalGravity().equals(PdfConstants.COLUMN_GRAVITY_RIGHT.getValue()))
-			return (colWidth - contentWidth - cellXMargin * 2);
-		else
-			return 0;
-	}
-
-	private float calculateVerticalGravityDelta(Column column, float colHeight, float contentHeight,
-			float cellYMargin) {
-		// 2 * cellYMargin is also subtracted from colHeight, so that the newly aligned
-		// content will also maintain vertical margin
-		if (column.getVerticalGravity().equals(PdfConstants.COLUMN_GRAVITY_CENTER.getValue()))
-			return (colHeight - contentHeight - cellYMargin * 2) / 2;
-		else if (column.getVerticalGravity().equals(PdfConstants.COLUMN_GRAVITY_BOTTOM.getValue()))
-			return (colHeight - contentHeight - cellYMargin * 2);
-		else
-			return 0;
-	}
-
-	private PDFont getFontType(Column column, boolean isHeaderRow) {
-		if (isHeaderRow)
-			return PDType1Font.TIMES_BOLD;
-		else if (column.getIsBold() && column.getIsItalic())
-			return PDType1Font.TIMES_BOLD_ITALIC;
-		else if (column.getIsBold())
-			return PDType1Font.TIMES_BOLD;
-		else if (column.getIsItalic())
-			return PDType1Font.TIMES_ITALIC;
-		else
-			return PDType1Font.TIMES_ROMAN;
-	}
-
-	private List<String> splitTextToMultiLines(PDFont pdfFont, float fontSize, float colTextMaxWidth, String text)
-			throws IOException {
-		List<String> textParts = new ArrayList<>();
-		String[] nextlineTexts = null;
-		if (text.contains("\n"))
-			nextlineTexts = text.split("\n");
-		else
-			nextlineTexts = new String[] { text };
-		for (String newText : nextlineTexts) {
-			char[] textCharArray = newText.toCharArray();
-			StringBuilder textPartBuilder = new StringBuilder();
-			for (int charPosition = 0; charPosition < textCharArray.length; charPosition++) {
-				textPartBuilder.append(textCharArray[charPosition]);
-				if ((fontSize * pdfFont.getStringWidth(textPartBuilder.toString()) / 1000) > colTextMaxWidth) {
-					// to word wrap based on space between words
-					if (textPartBuilder.toString().contains(" ") && charPosition + 1 < textCharArray.length
-							&& textCharArray[charPosition + 1] != ' ') {
-						textParts.add(textPartBuilder.substring(0, textPartBuilder.lastIndexOf(" ")).trim());
-						textPartBuilder.delete(0, textPartBuilder.lastIndexOf(" "));
-					} else {
-						textParts.add(textPartBuilder.toString().trim());
-						textPartBuilder.delete(0, textPartBuilder.length());
-					}
-				}
-			}
-			// adding the last part
-			if (textPartBuilder.length() > 0)
-				textParts.add(textPartBuilder.toString().trim());
+	// plans the part of the row which fits in the current page and draws it
+	private boolean createColumns(TableLayout tableLayout, RowLayout rowLayout, float textx, float texty,
+			float cellXMargin, float cellYMargin) throws IOException {
+		RowPlanner.plan(tableLayout, rowLayout, rowFragment, textx, texty, cellXMargin, cellYMargin,
+				pageBottomMargin);
+		for (int j = 0; j < rowFragment.getColumnCount(); j++) {
+			ColumnFragment columnFragment = rowFragment.getColumn(j);
+			Column column = columnFragment.getColumn();
+			pageContent.setFont(documentFonts.getFont(columnFragment.getFontMetrics()), columnFragment.getFontSize());
+			if (columnFragment.hasImage())
+				drawImage(columnFragment.getImageXPosition(), columnFragment.getImageYPosition(),
+						column.getImageUrl(), column.getImageFile(), columnFragment.getImageWidth(),
+						column.getImageHeight());
+			metrics.addLines(columnFragment.getLineCount());
+			for (int k = 0; k < columnFragment.getLineCount(); k++)
+				writeText(columnFragment.getLineXPosition(k), columnFragment.getLineYPosition(k),
+						columnFragment.getLine(k), column.getTextColorComponents());
 		}
-
-		return textParts;
-
+		return rowFragment.continuesInNextPage();
 	}
 
-	private void drawTableBorder(Table table, float xPositionFromLeft, float yPositionFromBottom, float tableWidth,
-			float tableHeight) throws IOException {
+	private void drawTableBorder(TableLayout tableLayout, float xPositionFromLeft, float yPositionFromBottom,
+			float tableWidth, float tableHeight) throws IOException {
+		Table table = tableLayout.getTable();
 		if (table.getDrawBoundary()) {
 			// table-top horizontal border
 			drawLine(xPositionFromLeft, yPositionFromBottom, xPositionFromLeft + tableWidth, yPositionFromBottom,
@@ -511,8 +880,9 @@ public class PdfGenerator implements AutoCloseable {
 		}
 	}
 
-	private void drawCellBorder(Row row, float xPositionFromLeft, float yPositionFromBottom, float tableWidth,
-			HashMap<Integer, Float> columnWidthMap) throws IOException {
+	private void drawCellBorder(RowLayout rowLayout, float xPositionFromLeft, float yPositionFromBottom,
+			float tableWidth, float[] columnWidths) throws IOException {
+		Row row = rowLayout.getRow();
 		if (row.getDrawBottomLine())
 			drawLine(xPositionFromLeft, yPositionFromBottom, xPositionFromLeft + tableWidth, yPositionFromBottom,
 					row.getLineColorComponents(), row.getLineThickness());
@@ -520,40 +890,31 @@ public class PdfGenerator implements AutoCloseable {
 		float widthIncrement = 0;
 		for (int j = 0; j < row.getColumns().size(); j++) {
 			Column column = row.getColumns().get(j);
-			widthIncrement += columnWidthMap.get(j);
+			widthIncrement += columnWidths[j];
 			if (column.getDrawVerticalLine())
 				drawLine(xPositionFromLeft + widthIncrement, yPositionFromBottom, xPositionFromLeft + widthIncrement,
-						yPositionFromBottom + row.getHeight(), column.getLineColorComponents(),
+						yPositionFromBottom + rowLayout.getHeight(), column.getLineColorComponents(),
 						column.getLineThickness());
 		}
 	}
 
+	// the text is placed by the planner, so it is always above the bottom margin
 	private void writeText(float xPositionFromLeft, float yPositionFromBottom, String text, float[] colorComponents)
-			throws IOException, PdfPageSizeException {
-		logger.debug("writing text :: xPositionFromLeft = {} yPositionFromBottom = {}", xPositionFromLeft,
-				yPositionFromBottom);
-		// Writing the current text is exceeding the page height limit. So throw
-		// exception to handle it
-		if (yPositionFromBottom <= pageBottomMargin)
-			throw new PdfPageSizeException();
-
+			throws IOException {
+		// guarded, so the positions are not boxed for each line
+		if (logger.isDebugEnabled())
+			logger.debug("writing text :: xPositionFromLeft = {} yPositionFromBottom = {}", xPositionFromLeft,
+					yPositionFromBottom);
 		if (colorComponents != null) {
 			if (colorComponents.length != 3 || colorComponents[0] < 0 || colorComponents[0] > 255
 					|| colorComponents[1] < 0 || colorComponents[1] > 255 || colorComponents[2] < 0
 					|| colorComponents[2] > 255)
 				throw new PdfTemplateException(PdfErrorDescription.INVALID_RGB_COMPONENTS.getErrorDescription());
-			float[] components = new float[] { colorComponents[0] / 255f, colorComponents[1] / 255f,
-					colorComponents[2] / 255f };
-			PDColor color = new PDColor(components, PDDeviceRGB.INSTANCE);
-			contentStream.setNonStrokingColor(color);
-		} else {
-			PDColor color = new PDColor(new float[] { 0, 0, 0 }, PDDeviceRGB.INSTANCE);
-			contentStream.setNonStrokingColor(color);
-		}
-		contentStream.beginText();
-		contentStream.newLineAtOffset(xPositionFromLeft, yPositionFromBottom);
-		contentStream.showText(text);
-		contentStream.endText();
+			pageContent.setNonStrokingColor(colorComponents[0] / 255f, colorComponents[1] / 255f,
+					colorComponents[2] / 255f);
+		} else
+			pageContent.setNonStrokingColor(0, 0, 0);
+		pageContent.showText(xPositionFromLeft, yPositionFromBottom, text);
 	}
 
 	private void drawLine(float fromX, float fromY, float toX, float toY, float[] colorComponents, float lineWidth)
@@ -563,44 +924,202 @@ public class PdfGenerator implements AutoCloseable {
 					|| colorComponents[1] < 0 || colorComponents[1] > 255 || colorComponents[2] < 0
 					|| colorComponents[2] > 255)
 				throw new PdfTemplateException(PdfErrorDescription.INVALID_RGB_COMPONENTS.getErrorDescription());
-			float[] components = new float[] { colorComponents[0] / 255f, colorComponents[1] / 255f,
-					colorComponents[2] / 255f };
-			PDColor color = new PDColor(components, PDDeviceRGB.INSTANCE);
-			contentStream.setStrokingColor(color);
-		} else {
-			PDColor color = new PDColor(new float[] { 0, 0, 0 }, PDDeviceRGB.INSTANCE);
-			contentStream.setStrokingColor(color);
-		}
+			pageContent.setStrokingColor(colorComponents[0] / 255f, colorComponents[1] / 255f,
+					colorComponents[2] / 255f);
+		} else
+			pageContent.setStrokingColor(0, 0, 0);
 		if (lineWidth > 0)
-			contentStream.setLineWidth(lineWidth);
+			pageContent.setLineWidth(lineWidth);
 		else
-			contentStream.setLineWidth(PdfTemplateDefaultValues.LINE_WIDTH.getFloatValue());
-		contentStream.moveTo(fromX, fromY);
-		contentStream.lineTo(toX, toY);
-		contentStream.stroke();
+			pageContent.setLineWidth(PdfTemplateDefaultValues.LINE_WIDTH.getFloatValue());
+		pageContent.strokeLine(fromX, fromY, toX, toY);
 	}
 
 	private void drawImage(float xPositionFromLeft, float yPositionFromBottom, String imageUrl, String imageFile,
 			float width, float height) throws IOException {
-		logger.debug("drawing image :: width = {}, height = {}", width, height);
+		if (logger.isDebugEnabled())
+			logger.debug("drawing image :: width = {}, height = {}", width, height);
 		PDImageXObject pdImage = null;
+		recorder.beginImageLoad();
+		long start = System.nanoTime();
 		if (imageFile != null)
-			pdImage = PDImageXObject.createFromFile(imageFile, pdfDoc);
-		else if (imageUrl != null) {
-			byte[] imageBytes = Util.downloadFile(imageUrl);
-			if (imageBytes != null)
-				pdImage = PDImageXObject.createFromByteArray(pdfDoc, imageBytes, null);
-		}
-		if (pdImage != null)
-			contentStream.drawImage(pdImage, xPositionFromLeft, yPositionFromBottom, width, height);
-		else
+			pdImage = imageRegistry.getImageFromFile(imageFile, width, height);
+		else if (imageUrl != null)
+			pdImage = imageRegistry.getImageFromUrl(imageUrl, width, height);
+		metrics.addNanos(GenerationPhase.IMAGE_FETCH, System.nanoTime() - start);
+		recorder.endImageLoad(imageFile != null ? imageFile : imageUrl, pdImage != null);
+		if (pdImage != null) {
+			pageContent.drawImage(pdImage, xPositionFromLeft, yPositionFromBottom, width, height);
+			metrics.addImage();
+		} else
 			logger.warn("unable to draw image for image url :: {} , file :: {}", imageUrl, imageFile);
 	}
 
+	/**
+	 * Number of image cells drawn with an image which was already embedded in the
+	 * document. Please refer {@link #getImageRegistryMisses()}.
+	 */
+	public long getImageRegistryHits() {
+		return imageRegistry.getHits();
+	}
+
+	/**
+	 * Number of distinct images embedded in the document. Each distinct image is
+	 * embedded only once, however many cells use it. Images are identified by the
+	 * image file, the image url or else the image content.
+	 */
+	public long getImageRegistryMisses() {
+		return imageRegistry.getMisses();
+	}
+
 	@Override
 	public void close() throws IOException {
+		pageContentWriter.close();
 		pdfDoc.close();
 		logger.info("Document closed!!!");
 	}
 
+	// times the layout of a document, without the template read, the images
+	// loaded and the pages written meanwhile on the thread creating the pdf,
+	// which are timed in their own phases. The pages written on the pool are
+	// timed once they are all written.
+	private final class LayoutTimer {
+
+		private final long start = System.nanoTime();
+		private final long parseNanos = metrics.getNanos(GenerationPhase.PARSE);
+		private final long imageFetchNanos = metrics.getNanos(GenerationPhase.IMAGE_FETCH);
+		private final long writeNanos = pageContentWriter.getWriteNanos();
+		private final long callerWriteNanos = pageContentWriter.getCallerWriteNanos();
+
+		void stop() {
+			long layoutNanos = System.nanoTime() - start;
+			layoutNanos -= metrics.getNanos(GenerationPhase.PARSE) - parseNanos;
+			layoutNanos -= metrics.getNanos(GenerationPhase.IMAGE_FETCH) - imageFetchNanos;
+			layoutNanos -= pageContentWriter.getCallerWriteNanos() - callerWriteNanos;
+			metrics.addNanos(GenerationPhase.LAYOUT, layoutNanos);
+			metrics.addNanos(GenerationPhase.CONTENT_STREAM, pageContentWriter.getWriteNanos() - writeNanos);
+		}
+	}
+
+	// times the parts of a streamed template handed over to the handler, so the
+	// rest of the time of streaming is the time of reading the json
+	private static final class TimedTemplateHandler implements TemplateHandler {
+
+		private final TemplateHandler handler;
+		private long nanos;
+
+		TimedTemplateHandler(TemplateHandler handler) {
+			this.handler = handler;
+		}
+
+		long getNanos() {
+			return nanos;
+		}
+
+		@Override
+		public void startTemplate(Template template) throws IOException {
+			long start = System.nanoTime();
+			try {
+				handler.startTemplate(template);
+			} finally {
+				nanos += System.nanoTime() - start;
+			}
+		}
+
+		@Override
+		public void startTable(Table table) throws IOException {
+			long start = System.nanoTime();
+			try {
+				handler.startTable(table);
+			} finally {
+				nanos += System.nanoTime() - start;
+			}
+		}
+
+		@Override
+		public void row(Table table, Row row) throws IOException {
+			long start = System.nanoTime();
+			try {
+				handler.row(table, row);
+			} finally {
+				nanos += System.nanoTime() - start;
+			}
+		}
+
+		@Override
+		public void endTable(Table table) throws IOException {
+			long start = System.nanoTime();
+			try {
+				handler.endTable(table);
+			} finally {
+				nanos += System.nanoTime() - start;
+			}
+		}
+	}
+
+	// the creation of a pdf, from reading its template till it is saved
+	private interface Generation<T> {
+
+		T run() throws IOException;
+	}
+
+	// buffers the writes in the buffer of the generator, so it is not allocated
+	// for each pdf, and flushes instead of closing the wrapped stream, which is
+	// owned by the caller
+	private static final class NonClosingBufferedOutputStream extends FilterOutputStream {
+
+		private final byte[] buffer;
+		private int count;
+		private long byteCount;
+
+		NonClosingBufferedOutputStream(OutputStream outputStream, byte[] buffer) {
+			super(outputStream);
+			this.buffer = buffer;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			if (count == buffer.length)
+				flushBuffer();
+			buffer[count++] = (byte) b;
+			byteCount++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			byteCount += len;
+			if (len >= buffer.length) {
+				flushBuffer();
+				out.write(b, off, len);
+				return;
+			}
+			if (len > buffer.length - count)
+				flushBuffer();
+			System.arraycopy(b, off, buffer, count, len);
+			count += len;
+		}
+
+		long getByteCount() {
+			return byteCount;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			flushBuffer();
+			out.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			flush();
+		}
+
+		private void flushBuffer() throws IOException {
+			if (count > 0) {
+				out.write(buffer, 0, count);
+				count = 0;
+			}
+		}
+	}
+
 }
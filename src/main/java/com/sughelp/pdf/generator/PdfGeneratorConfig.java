@@ -0,0 +1,307 @@
+package com.sughelp.pdf.generator;
+
+import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.apache.pdfbox.io.MemoryUsageSetting;
+
+import com.sughelp.pdf.generator.constants.PdfErrorDescription;
+import com.sughelp.pdf.generator.constants.PdfOutputProfile;
+import com.sughelp.pdf.generator.constants.PdfStorageMode;
+import com.sughelp.pdf.generator.exception.PdfTemplateException;
+
+/**
+ * Configuration of a {@link PdfGenerator}. If no configuration is given to the
+ * generator, the default values are used.
+ * 
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public class PdfGeneratorConfig {
+
+	private static final int DEFAULT_IMAGE_PREFETCH_THREADS = 8;
+	private static final long DEFAULT_IMAGE_PREFETCH_TIMEOUT_MILLIS = 30000;
+
+	private PdfStorageMode storageMode;
+	private long maxMainMemoryBytes;
+	private String tempDirectory;
+	private int imagePrefetchThreads = DEFAULT_IMAGE_PREFETCH_THREADS;
+	private long imagePrefetchTimeoutMillis = DEFAULT_IMAGE_PREFETCH_TIMEOUT_MILLIS;
+	private float imageTargetDpi;
+	private boolean imageGrayscale;
+	private float imageJpegQuality;
+	private int pageWriteThreads = 1;
+	private PdfOutputProfile outputProfile;
+	private GenerationListener generationListener;
+	// created with the first prefetch and shared by the generators of the
+	// configuration
+	private ThreadPoolExecutor imagePrefetchExecutor;
+
+	public PdfStorageMode getStorageMode() {
+		if (storageMode == null)
+			return PdfStorageMode.MAIN_MEMORY_ONLY;
+		return storageMode;
+	}
+
+	/**
+	 * Set where the content of the document is kept until it is saved. For very
+	 * large documents use {@link PdfStorageMode#MIXED} or
+	 * {@link PdfStorageMode#TEMP_FILE_ONLY}, so the document does not have to fit
+	 * in the heap.<br>
+	 * Default value : {@link PdfStorageMode#MAIN_MEMORY_ONLY}
+	 * 
+	 * @param storageMode
+	 *            The storage mode as specified in {@link PdfStorageMode}
+	 */
+	public void setStorageMode(PdfStorageMode storageMode) {
+		this.storageMode = storageMode;
+	}
+
+	public long getMaxMainMemoryBytes() {
+		return maxMainMemoryBytes;
+	}
+
+	/**
+	 * Set the maximum heap memory in bytes used for the document if the storage
+	 * mode is {@link PdfStorageMode#MIXED}. The content exceeding it is written to
+	 * a temporary file. For other storage modes this value has no relevance.
+	 * 
+	 * @param maxMainMemoryBytes
+	 *            The maximum heap memory in bytes. It should be greater than 0.
+	 * @throws PdfTemplateException
+	 *             if the value is not greater than 0
+	 */
+	public void setMaxMainMemoryBytes(long maxMainMemoryBytes) {
+		if (maxMainMemoryBytes <= 0)
+			throw new PdfTemplateException(PdfErrorDescription.INVALID_MAX_MAIN_MEMORY.getErrorDescription());
+		this.maxMainMemoryBytes = maxMainMemoryBytes;
+	}
+
+	public String getTempDirectory() {
+		return tempDirectory;
+	}
+
+	/**
+	 * Set the directory where the temporary file of the document is created if the
+	 * storage mode is {@link PdfStorageMode#MIXED} or
+	 * {@link PdfStorageMode#TEMP_FILE_ONLY}. If nothing is set, the temporary
+	 * directory of the JVM is used.
+	 * 
+	 * @param tempDirectory
+	 *            The path of the directory
+	 */
+	public void setTempDirectory(String tempDirectory) {
+		this.tempDirectory = tempDirectory;
+	}
+
+	public int getImagePrefetchThreads() {
+		return imagePrefetchThreads;
+	}
+
+	/**
+	 * Set the maximum number of images loaded at the same time. Before a
+	 * {@link Template} is written to the pdf, all its image files and urls are
+	 * loaded concurrently. Images of a streamed template are not prefetched, they
+	 * are loaded when they are drawn. 0 disables the prefetch.<br>
+	 * The threads are shared by all the generators of this configuration, e.g.
+	 * the workers of a {@link PdfBatchGenerator}.<br>
+	 * Default value : 8
+	 * 
+	 * @param imagePrefetchThreads
+	 *            The maximum number of threads loading the images
+	 * @throws PdfTemplateException
+	 *             if the value is negative
+	 */
+	public void setImagePrefetchThreads(int imagePrefetchThreads) {
+		if (imagePrefetchThreads < 0)
+			throw new PdfTemplateException(PdfErrorDescription.INVALID_IMAGE_PREFETCH_THREADS.getErrorDescription());
+		synchronized (this) {
+			this.imagePrefetchThreads = imagePrefetchThreads;
+			if (imagePrefetchExecutor != null && imagePrefetchThreads > 0)
+				resize(imagePrefetchExecutor, imagePrefetchThreads);
+		}
+	}
+
+	synchronized ExecutorService getImagePrefetchExecutor() {
+		if (imagePrefetchExecutor == null)
+			imagePrefetchExecutor = ImagePrefetcher.newExecutor(Math.max(1, imagePrefetchThreads));
+		return imagePrefetchExecutor;
+	}
+
+	// the core size can not be greater than the max size at any time
+	private static void resize(ThreadPoolExecutor executor, int threads) {
+		if (threads > executor.getMaximumPoolSize()) {
+			executor.setMaximumPoolSize(threads);
+			executor.setCorePoolSize(threads);
+		} else {
+			executor.setCorePoolSize(threads);
+			executor.setMaximumPoolSize(threads);
+		}
+	}
+
+	public long getImagePrefetchTimeoutMillis() {
+		return imagePrefetchTimeoutMillis;
+	}
+
+	/**
+	 * Set the maximum time to wait for all the images of a template to be
+	 * loaded. Images which are not loaded by then are not drawn.<br>
+	 * Default value : 30 seconds
+	 * 
+	 * @param imagePrefetchTimeoutMillis
+	 *            The timeout in milliseconds
+	 * @throws PdfTemplateException
+	 *             if the value is not greater than 0
+	 */
+	public void setImagePrefetchTimeoutMillis(long imagePrefetchTimeoutMillis) {
+		if (imagePrefetchTimeoutMillis <= 0)
+			throw new PdfTemplateException(PdfErrorDescription.INVALID_IMAGE_PREFETCH_TIMEOUT.getErrorDescription());
+		this.imagePrefetchTimeoutMillis = imagePrefetchTimeoutMillis;
+	}
+
+	public float getImageTargetDpi() {
+		return imageTargetDpi;
+	}
+
+	/**
+	 * Set the resolution of the images in dots per inch of the size at which they
+	 * are drawn. Images with a higher resolution are resampled down to it, e.g.
+	 * an image drawn at 50 x 50 points with 150 dpi will have at most 105 x 105
+	 * pixels. 0 keeps the images at their original resolution.<br>
+	 * Default value : 0
+	 * 
+	 * @param imageTargetDpi
+	 *            The target resolution in dpi
+	 * @throws PdfTemplateException
+	 *             if the value is negative
+	 */
+	public void setImageTargetDpi(float imageTargetDpi) {
+		if (imageTargetDpi < 0)
+			throw new PdfTemplateException(PdfErrorDescription.INVALID_IMAGE_TARGET_DPI.getErrorDescription());
+		this.imageTargetDpi = imageTargetDpi;
+	}
+
+	public boolean getImageGrayscale() {
+		return imageGrayscale;
+	}
+
+	/**
+	 * Set whether the images are converted to grayscale.<br>
+	 * Default value : false
+	 * 
+	 * @param imageGrayscale
+	 *            true to convert the images to grayscale
+	 */
+	public void setImageGrayscale(boolean imageGrayscale) {
+		this.imageGrayscale = imageGrayscale;
+	}
+
+	public float getImageJpegQuality() {
+		return imageJpegQuality;
+	}
+
+	/**
+	 * Set the quality with which the images are encoded as JPEG, from 0 to 1.
+	 * Images with transparency are not encoded as JPEG. 0 keeps the encoding of
+	 * the images, i.e. JPEG images are embedded as JPEG and others lossless.<br>
+	 * Default value : 0
+	 * 
+	 * @param imageJpegQuality
+	 *            The JPEG quality, e.g. 0.75
+	 * @throws PdfTemplateException
+	 *             if the value is not between 0 and 1
+	 */
+	public void setImageJpegQuality(float imageJpegQuality) {
+		if (imageJpegQuality < 0 || imageJpegQuality > 1)
+			throw new PdfTemplateException(PdfErrorDescription.INVALID_IMAGE_JPEG_QUALITY.getErrorDescription());
+		this.imageJpegQuality = imageJpegQuality;
+	}
+
+	public int getPageWriteThreads() {
+		return pageWriteThreads;
+	}
+
+	/**
+	 * Set the number of threads writing the content streams of the pages. The
+	 * pages are always laid out one after the other by the thread creating the
+	 * pdf. With more than one thread, the content of each finished page is
+	 * written on a pool of the generator while the next pages are laid out. The
+	 * pages with text in a registered font, which is embedded as a subset, are
+	 * still written by the thread creating the pdf. The pdf is the same for any
+	 * number of threads. For a {@link PdfBatchGenerator},
+	 * which creates many pdfs at the same time, one thread is usually enough.<br>
+	 * Default value : 1
+	 * 
+	 * @param pageWriteThreads
+	 *            The number of threads writing the pages
+	 * @throws PdfTemplateException
+	 *             if the value is not greater than 0
+	 */
+	public void setPageWriteThreads(int pageWriteThreads) {
+		if (pageWriteThreads <= 0)
+			throw new PdfTemplateException(PdfErrorDescription.INVALID_PAGE_WRITE_THREADS.getErrorDescription());
+		this.pageWriteThreads = pageWriteThreads;
+	}
+
+	public PdfOutputProfile getOutputProfile() {
+		if (outputProfile == null)
+			return PdfOutputProfile.DEFAULT;
+		return outputProfile;
+	}
+
+	/**
+	 * Set how the content of the pages is compressed. Use
+	 * {@link PdfOutputProfile#FAST_WRITE} when the pdfs are created on request
+	 * and {@link PdfOutputProfile#SMALLEST_FILE} when they are archived or sent
+	 * by mail. Different profiles can be used for different requests with a
+	 * generator per profile.<br>
+	 * Default value : {@link PdfOutputProfile#DEFAULT}
+	 * 
+	 * @param outputProfile
+	 *            The output profile as specified in {@link PdfOutputProfile}
+	 */
+	public void setOutputProfile(PdfOutputProfile outputProfile) {
+		this.outputProfile = outputProfile;
+	}
+
+	public GenerationListener getGenerationListener() {
+		if (generationListener == null)
+			return GenerationListener.NO_OP;
+		return generationListener;
+	}
+
+	/**
+	 * Set the listener which receives the time of each phase and the counts of
+	 * each pdf created, e.g. {@link AggregatingGenerationListener} to report the
+	 * percentiles of a batch. The listener of a {@link PdfBatchGenerator} is
+	 * called by all its threads. Please refer {@link GenerationListener}.<br>
+	 * Default value : {@link GenerationListener#NO_OP}
+	 * 
+	 * @param generationListener
+	 *            The listener of the metrics of the pdfs
+	 */
+	public void setGenerationListener(GenerationListener generationListener) {
+		this.generationListener = generationListener;
+	}
+
+	MemoryUsageSetting getMemoryUsageSetting() {
+		MemoryUsageSetting memoryUsageSetting;
+		switch (getStorageMode()) {
+		case MIXED:
+			if (maxMainMemoryBytes <= 0)
+				throw new PdfTemplateException(PdfErrorDescription.INVALID_MAX_MAIN_MEMORY.getErrorDescription());
+			memoryUsageSetting = MemoryUsageSetting.setupMixed(maxMainMemoryBytes);
+			break;
+		case TEMP_FILE_ONLY:
+			memoryUsageSetting = MemoryUsageSetting.setupTempFileOnly();
+			break;
+		default:
+			memoryUsageSetting = MemoryUsageSetting.setupMainMemoryOnly();
+		}
+		if (tempDirectory != null)
+			memoryUsageSetting.setTempDir(new File(tempDirectory));
+		return memoryUsageSetting;
+	}
+}
@@ -26,7 +26,6 @@ public class Row {
 	private boolean drawBottomLine;
 	private float[] lineColorComponents;
 	private float lineThickness;
-	private float height;
 
 	public List<Column> getColumns() {
 		return columns;
@@ -100,11 +99,13 @@ public class Row {
 		this.lineThickness = lineThickness;
 	}
 
-	float getHeight() {
-		return height;
-	}
-
-	void setHeight(float height) {
-		this.height = height;
+	// copy of the properties set in the template without the columns
+	Row copy() {
+		Row row = new Row();
+		row.isHeader = isHeader;
+		row.drawBottomLine = drawBottomLine;
+		row.lineColorComponents = lineColorComponents == null ? null : lineColorComponents.clone();
+		row.lineThickness = lineThickness;
+		return row;
 	}
 }
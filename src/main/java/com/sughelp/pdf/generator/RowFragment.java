@@ -0,0 +1,165 @@
+package com.sughelp.pdf.generator;
+
+import java.util.Arrays;
+
+/**
+ * The part of a row which is written in one page, as planned by
+ * {@link RowPlanner}. It contains the position of every text line and image of
+ * the part, so it is drawn without measuring anything again.<br>
+ * The generator plans every part of every row into one fragment, and the
+ * arrays of the fragment grow to the largest part planned so far.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+final class RowFragment {
+
+	private ColumnFragment[] columns = new ColumnFragment[0];
+	private int columnCount;
+	private boolean continuesInNextPage;
+
+	/**
+	 * Starts the plan of a part of a row with the given number of columns. Each
+	 * column fragment is reset afterwards for its column.
+	 */
+	void reset(int columnCount) {
+		this.columnCount = columnCount;
+		continuesInNextPage = false;
+		if (columnCount > columns.length) {
+			int length = columns.length;
+			columns = Arrays.copyOf(columns, columnCount);
+			for (int j = length; j < columnCount; j++)
+				columns[j] = new ColumnFragment();
+		}
+	}
+
+	int getColumnCount() {
+		return columnCount;
+	}
+
+	/**
+	 * The part of a column in the page, by the index of the column.
+	 */
+	ColumnFragment getColumn(int index) {
+		return columns[index];
+	}
+
+	/**
+	 * Whether some text lines of the row did not fit in the page, so the row
+	 * continues in the next page.
+	 */
+	boolean continuesInNextPage() {
+		return continuesInNextPage;
+	}
+
+	void setContinuesInNextPage(boolean continuesInNextPage) {
+		this.continuesInNextPage = continuesInNextPage;
+	}
+
+	/**
+	 * The part of a column which is written in one page, i.e. its image or the
+	 * text lines which fit in the page.
+	 */
+	static final class ColumnFragment {
+
+		private Column column;
+		private FontMetrics fontMetrics;
+		private float fontSize;
+		private String text;
+		// the lines are the offsets of the text of the column
+		private int[] lineStarts = new int[0];
+		private int[] lineEnds = new int[0];
+		private float[] lineXPositions = new float[0];
+		private float[] lineYPositions = new float[0];
+		private int lineCount;
+		private boolean image;
+		private float imageXPosition;
+		private float imageYPosition;
+		private float imageWidth;
+
+		/**
+		 * Starts the plan of the column, for at most the given number of lines of
+		 * the text.
+		 */
+		void reset(Column column, FontMetrics fontMetrics, float fontSize, String text, int maxLineCount) {
+			this.column = column;
+			this.fontMetrics = fontMetrics;
+			this.fontSize = fontSize;
+			this.text = text;
+			lineCount = 0;
+			image = false;
+			if (maxLineCount > lineStarts.length) {
+				lineStarts = new int[maxLineCount];
+				lineEnds = new int[maxLineCount];
+				lineXPositions = new float[maxLineCount];
+				lineYPositions = new float[maxLineCount];
+			}
+		}
+
+		Column getColumn() {
+			return column;
+		}
+
+		FontMetrics getFontMetrics() {
+			return fontMetrics;
+		}
+
+		float getFontSize() {
+			return fontSize;
+		}
+
+		/**
+		 * Adds the line from <code>start</code> to <code>end</code> of the text.
+		 */
+		void addLine(float xPositionFromLeft, float yPositionFromBottom, int start, int end) {
+			lineStarts[lineCount] = start;
+			lineEnds[lineCount] = end;
+			lineXPositions[lineCount] = xPositionFromLeft;
+			lineYPositions[lineCount] = yPositionFromBottom;
+			lineCount++;
+		}
+
+		int getLineCount() {
+			return lineCount;
+		}
+
+		/**
+		 * Copy of the line from the text, to be written.
+		 */
+		String getLine(int index) {
+			return text.substring(lineStarts[index], lineEnds[index]);
+		}
+
+		float getLineXPosition(int index) {
+			return lineXPositions[index];
+		}
+
+		float getLineYPosition(int index) {
+			return lineYPositions[index];
+		}
+
+		void setImage(float xPositionFromLeft, float yPositionFromBottom, float width) {
+			image = true;
+			imageXPosition = xPositionFromLeft;
+			imageYPosition = yPositionFromBottom;
+			imageWidth = width;
+		}
+
+		boolean hasImage() {
+			return image;
+		}
+
+		float getImageXPosition() {
+			return imageXPosition;
+		}
+
+		float getImageYPosition() {
+			return imageYPosition;
+		}
+
+		float getImageWidth() {
+			return imageWidth;
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package com.sughelp.pdf.generator;
+
+import java.util.Arrays;
+
+/**
+ * The layout state of a row while a pdf is created, i.e. the layout of its
+ * columns and its height in the current page. The {@link Row} itself is only
+ * read.<br>
+ * The generator resets one row layout for each row, and the column layouts
+ * are created only when a row has more columns than the rows before it.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+final class RowLayout {
+
+	private Row row;
+	private ColumnLayout[] columns = new ColumnLayout[0];
+	private int columnCount;
+	private float height;
+
+	/**
+	 * Starts the layout of the row with the given number of columns. Each
+	 * column layout is reset afterwards for its column.
+	 */
+	void reset(Row row, int columnCount) {
+		this.row = row;
+		this.columnCount = columnCount;
+		height = 0;
+		if (columnCount > columns.length) {
+			int length = columns.length;
+			columns = Arrays.copyOf(columns, columnCount);
+			for (int j = length; j < columnCount; j++)
+				columns[j] = new ColumnLayout();
+		}
+	}
+
+	Row getRow() {
+		return row;
+	}
+
+	int getColumnCount() {
+		return columnCount;
+	}
+
+	ColumnLayout getColumn(int index) {
+		return columns[index];
+	}
+
+	float getHeight() {
+		return height;
+	}
+
+	void setHeight(float height) {
+		this.height = height;
+	}
+}
@@ -0,0 +1,142 @@
+package com.sughelp.pdf.generator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sughelp.pdf.generator.RowFragment.ColumnFragment;
+import com.sughelp.pdf.generator.constants.PdfConstants;
+
+/**
+ * Plans the page breaks of the rows before they are drawn. For a row starting
+ * at a position of the page, the planner places the text lines of each column
+ * one below the other from the line heights, and stops a column at the first
+ * line which would be below the bottom margin of the page. The placed lines
+ * and images make the {@link RowFragment} of the page and the remaining lines
+ * are kept in the {@link RowLayout} for the next page.<br>
+ * Only the lines which fit are measured, so every line is measured once,
+ * however many pages the row spans. The lines are planned as offsets of the
+ * text of the column, so planning a row does not allocate.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+final class RowPlanner {
+
+	private static final Logger logger = LoggerFactory.getLogger(RowPlanner.class);
+
+	private RowPlanner() {
+	}
+
+	/**
+	 * Plans the part of the row which fits in the current page into the given
+	 * fragment. The written lines and the image of the columns are removed from
+	 * the row layout. If the row does not fit in the page, the height of the row
+	 * layout is set to the height of the part in the page.
+	 *
+	 * @param textx
+	 *            The x position of the content of the first column
+	 * @param texty
+	 *            The y position of the top of the row in the page
+	 * @param pageBottomMargin
+	 *            The y position below which nothing is written
+	 */
+	static void plan(TableLayout tableLayout, RowLayout rowLayout, RowFragment rowFragment, float textx,
+			float texty, float cellXMargin, float cellYMargin, float pageBottomMargin) {
+		int columnCount = tableLayout.getTable().getTotalColumnCount();
+		float[] columnWidths = tableLayout.getColumnWidths();
+		rowFragment.reset(columnCount);
+		float columnHeight = 0;
+		boolean isPageFinished = false;
+		for (int j = 0; j < columnCount; j++) {
+			ColumnLayout columnLayout = rowLayout.getColumn(j);
+			Column column = columnLayout.getColumn();
+			float fontSize = column.getFontSize();
+			FontMetrics fontMetrics = columnLayout.getFontMetrics();
+			float textHeight = fontSize * fontMetrics.getCapHeight() / 1000;
+			float colWidth = columnWidths[j];
+			TextLines textLines = columnLayout.getTextLines();
+			ColumnFragment columnFragment = rowFragment.getColumn(j);
+			columnFragment.reset(column, fontMetrics, fontSize, textLines.getText(),
+					columnLayout.isImage() ? 0 : textLines.size());
+			if (columnLayout.isImage()) {
+				columnHeight = column.getImageHeight() + cellYMargin;
+				if ((colWidth - 2 * cellXMargin) < column.getImageHeight())
+					columnLayout.setImageWidth(colWidth - 2 * cellXMargin);
+				float textXPosition = textx + calculateHorizontalGravityDelta(column, colWidth,
+						columnLayout.getImageWidth(), cellXMargin);
+				float textYPosition = texty - columnHeight;
+				if (rowLayout.getHeight() > columnLayout.getHeight())
+					textYPosition = textYPosition
+							- calculateVerticalGravityDelta(column, rowLayout.getHeight(), columnHeight, cellYMargin);
+				columnFragment.setImage(textXPosition, textYPosition, columnLayout.getImageWidth());
+				// Once the image is placed, it is not placed again if the row continues in
+				// the next page. The column layout forgets the image, so if the row
+				// continues for text values, this image will not drawn again
+				columnLayout.imageDrawn();
+			} else {
+				columnHeight = textHeight + cellYMargin;
+				int lineNo = 0;
+				for (int k = 0; k < textLines.size(); k++) {
+					float textYPosition = texty - columnHeight;
+					// Previously calculated row height and column height. Max column height is the
+					// row height. So, if row height and column height are same, then for that
+					// column we will not do vertical alignment as that is the base column and all
+					// other column's vertical alignment will be based on that.
+					if (rowLayout.getHeight() > columnLayout.getHeight())
+						textYPosition = textYPosition
+								- calculateVerticalGravityDelta(column, rowLayout.getHeight(), columnHeight, cellYMargin);
+					if (textYPosition <= pageBottomMargin) {
+						if (logger.isDebugEnabled())
+							logger.debug("column{} :: page height exceeded at line{}", j + 1, k + 1);
+						// even if page is finished while writing one cell, we should continue with
+						// remaining cell of the row. And after finishing all the cells, we will inform
+						// the caller that page has finished, so the calling method will create new
+						// page.
+						isPageFinished = true;
+						rowLayout.setHeight(columnHeight);
+						break;
+					}
+					int lineStart = textLines.getStart(k);
+					int lineEnd = textLines.getEnd(k);
+					float textWidth = fontSize * fontMetrics.getStringWidth(textLines.getText(), lineStart, lineEnd)
+							/ 1000;
+					float textXPosition = textx
+							+ calculateHorizontalGravityDelta(column, colWidth, textWidth, cellXMargin);
+					columnFragment.addLine(textXPosition, textYPosition, lineStart, lineEnd);
+					columnHeight = columnHeight + textHeight + cellYMargin;
+					lineNo++;
+				}
+				// from the current cell remove all the text lines which are
+				// placed in this page
+				textLines.remove(lineNo);
+			}
+			textx += colWidth;
+		}
+		rowFragment.setContinuesInNextPage(isPageFinished);
+	}
+
+	private static float calculateHorizontalGravityDelta(Column column, float colWidth, float contentWidth,
+			float cellXMargin) {
+		// 2 * cellXMargin is also subtracted from colWidth, so that the newly aligned
+		// content will also maintain horizontal margin
+		if (column.getHorizontalGravity().equals(PdfConstants.COLUMN_GRAVITY_CENTER.getValue()))
+			return (colWidth - contentWidth - cellXMargin * 2) / 2;
+		else if (column.getHorizontalGravity().equals(PdfConstants.COLUMN_GRAVITY_RIGHT.getValue()))
+			return (colWidth - contentWidth - cellXMargin * 2);
+		else
+			return 0;
+	}
+
+	private static float calculateVerticalGravityDelta(Column column, float colHeight, float contentHeight,
+			float cellYMargin) {
+		// 2 * cellYMargin is also subtracted from colHeight, so that the newly aligned
+		// content will also maintain vertical margin
+		if (column.getVerticalGravity().equals(PdfConstants.COLUMN_GRAVITY_CENTER.getValue()))
+			return (colHeight - contentHeight - cellYMargin * 2) / 2;
+		else if (column.getVerticalGravity().equals(PdfConstants.COLUMN_GRAVITY_BOTTOM.getValue()))
+			return (colHeight - contentHeight - cellYMargin * 2);
+		else
+			return 0;
+	}
+}
@@ -1,7 +1,9 @@
 package com.sughelp.pdf.generator;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.sughelp.pdf.generator.constants.PdfErrorDescription;
 import com.sughelp.pdf.generator.constants.PdfTemplateDefaultValues;
 import com.sughelp.pdf.generator.exception.PdfTemplateException;
@@ -12,6 +14,8 @@ import com.sughelp.pdf.generator.exception.PdfTemplateException;
  * multiple rows. The rows will be processed in the order it is stored in the
  * list and in same order the corresponding rows will be displayed in pdf
  * sections. <br>
+ * When serialized to json, the rows are written after the other properties, so
+ * the json content can be streamed. <br>
  * <br>
  * {@link Column}
  * 
@@ -19,6 +23,8 @@ import com.sughelp.pdf.generator.exception.PdfTemplateException;
  *
  * @since 08-May-2020
  */
+@JsonPropertyOrder({ "totalColumnCount", "columnWidthRatios", "widthRatio", "leftMargin", "rightMargin", "topMargin",
+		"drawBoundary", "boundaryColorComponents", "boundaryThickness", "rows" })
 public class Table {
 
 	private List<Row> rows;
@@ -28,12 +34,9 @@ public class Table {
 	private float boundaryThickness;
 	private List<Float> columnWidthRatios;
 	private float widthRatio;
-	private float width;
-	private float height;
 	private float leftMargin;
 	private float rightMargin;
 	private float topMargin;
-	private float yPositionFromBottom;
 
 	public List<Row> getRows() {
 		return rows;
@@ -92,22 +95,6 @@ public class Table {
 		this.columnWidthRatios = columnWidthRatios;
 	}
 
-	void setWidth(float width) {
-		this.width = width;
-	}
-
-	void setHeight(float height) {
-		this.height = height;
-	}
-
-	float getWidth() {
-		return width;
-	}
-
-	float getHeight() {
-		return height;
-	}
-
 	public float getWidthRatio() {
 		if (widthRatio == 0)
 			return PdfTemplateDefaultValues.TABLE_WIDTH_RATIO.getFloatValue();
@@ -196,21 +183,6 @@ public class Table {
 		this.rightMargin = rightMargin;
 	}
 
-	float getyPositionFromBottom() {
-		return yPositionFromBottom;
-	}
-
-	/**
-	 * Used to set the y coordinate (from bottom) of the table dynamically. <br>
-	 * For first table in the page it will be the page height minus top margin.
-	 * <br>
-	 * For other tables below the first table this value will be calculated
-	 * dynamically based on the height of first table created
-	 */
-	void setyPositionFromBottom(float yPositionFromBottom) {
-		this.yPositionFromBottom = yPositionFromBottom;
-	}
-
 	public float getTopMargin() {
 		return topMargin;
 	}
@@ -224,4 +196,19 @@ public class Table {
 		this.topMargin = topMargin;
 	}
 
+	// copy of the properties set in the template without the rows
+	Table copy() {
+		Table table = new Table();
+		table.totalColumnCount = totalColumnCount;
+		table.drawBoundary = drawBoundary;
+		table.boundaryColorComponents = boundaryColorComponents == null ? null : boundaryColorComponents.clone();
+		table.boundaryThickness = boundaryThickness;
+		table.columnWidthRatios = columnWidthRatios == null ? null : new ArrayList<>(columnWidthRatios);
+		table.widthRatio = widthRatio;
+		table.leftMargin = leftMargin;
+		table.rightMargin = rightMargin;
+		table.topMargin = topMargin;
+		return table;
+	}
+
 }
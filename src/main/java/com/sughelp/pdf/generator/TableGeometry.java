@@ -0,0 +1,85 @@
+package com.sughelp.pdf.generator;
+
+import com.sughelp.pdf.generator.constants.PdfErrorDescription;
+import com.sughelp.pdf.generator.exception.PdfTemplateException;
+
+/**
+ * The width of a table and of its columns in a page, calculated from the width
+ * ratios of the table once its properties are validated. It depends only on
+ * the table properties and the page width, so it is calculated once for a
+ * {@link CompiledTemplate}. It is not modified once calculated.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+final class TableGeometry {
+
+	private final float width;
+	private final float[] columnWidths;
+
+	private TableGeometry(float width, float[] columnWidths) {
+		this.width = width;
+		this.columnWidths = columnWidths;
+	}
+
+	/**
+	 * Validates the table properties and calculates the widths.
+	 *
+	 * @throws PdfTemplateException
+	 *             if the column count or the width ratios of the table are not
+	 *             valid
+	 */
+	static TableGeometry of(Table table, float pageWidth) {
+		validateTableData(table);
+		float tableWidth = calculateTableWidth(table, table.getLeftMargin(), table.getRightMargin(), pageWidth);
+		float[] columnWidths = new float[table.getTotalColumnCount()];
+		validateColumnWidthRatio(table, columnWidths, tableWidth);
+		return new TableGeometry(tableWidth, columnWidths);
+	}
+
+	float getWidth() {
+		return width;
+	}
+
+	/**
+	 * The width of each column, indexed by the column. The array must not be
+	 * modified.
+	 */
+	float[] getColumnWidths() {
+		return columnWidths;
+	}
+
+	private static void validateTableData(Table table) {
+		if (table.getTotalColumnCount() == 0)
+			throw new PdfTemplateException(PdfErrorDescription.TOTAL_COLUMN_COUNT_EMPTY.getErrorDescription());
+		if (table.getColumnWidthRatios() != null && table.getColumnWidthRatios().size() != table.getTotalColumnCount())
+			throw new PdfTemplateException(PdfErrorDescription.INVALID_COLUMN_RATIO_COUNT.getErrorDescription());
+	}
+
+	private static float calculateTableWidth(Table table, float leftMargin, float rightMargin, float pageWidth) {
+		float tableWidth;
+		if (table.getWidthRatio() < 0 || table.getWidthRatio() > 1)
+			throw new PdfTemplateException(PdfErrorDescription.INVALID_TABLE_WIDTH_RATIO.getErrorDescription());
+		tableWidth = (pageWidth - (leftMargin + rightMargin)) * table.getWidthRatio();
+		return tableWidth;
+	}
+
+	private static void validateColumnWidthRatio(Table table, float[] columnWidths, float tableWidth) {
+		float totalColumnWidthRatio = 0;
+		if (table.getColumnWidthRatios() == null || table.getColumnWidthRatios().isEmpty()) {
+			for (int i = 0; i < table.getTotalColumnCount(); i++)
+				columnWidths[i] = tableWidth / (float) table.getTotalColumnCount();
+			totalColumnWidthRatio = 1;
+		} else {
+			for (int i = 0; i < table.getColumnWidthRatios().size(); i++) {
+				float ratio = table.getColumnWidthRatios().get(i);
+				float size = tableWidth * ratio;
+				columnWidths[i] = size;
+				totalColumnWidthRatio = totalColumnWidthRatio + ratio;
+			}
+		}
+		if (totalColumnWidthRatio < 0.99 || totalColumnWidthRatio > 1.01)
+			throw new PdfTemplateException(PdfErrorDescription.INVALID_COLUMN_WIDTH_RATIO.getErrorDescription());
+	}
+}
@@ -0,0 +1,77 @@
+package com.sughelp.pdf.generator;
+
+/**
+ * The layout state of a table while a pdf is created, i.e. its position and
+ * height in the current page. The {@link Table} itself is only read, so a
+ * template can be used for many pdfs at the same time.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+final class TableLayout {
+
+	private final Table table;
+	private final TableGeometry geometry;
+	private float yPositionFromBottom;
+	private float height;
+	private float topMargin;
+
+	TableLayout(Table table, TableGeometry geometry, float yPositionFromBottom) {
+		this.table = table;
+		this.geometry = geometry;
+		this.yPositionFromBottom = yPositionFromBottom;
+		topMargin = table.getTopMargin();
+	}
+
+	Table getTable() {
+		return table;
+	}
+
+	float getWidth() {
+		return geometry.getWidth();
+	}
+
+	/**
+	 * The width of each column, indexed by the column.
+	 */
+	float[] getColumnWidths() {
+		return geometry.getColumnWidths();
+	}
+
+	/**
+	 * The y coordinate (from bottom) of the table in the current page. For the
+	 * first table in the page it is the page height minus top margin. For other
+	 * tables it is calculated based on the height of the tables above it.
+	 */
+	float getyPositionFromBottom() {
+		return yPositionFromBottom;
+	}
+
+	void setyPositionFromBottom(float yPositionFromBottom) {
+		this.yPositionFromBottom = yPositionFromBottom;
+	}
+
+	/**
+	 * The height of the table in the current page.
+	 */
+	float getHeight() {
+		return height;
+	}
+
+	void setHeight(float height) {
+		this.height = height;
+	}
+
+	/**
+	 * The top margin of the table in the current page. It is zero once the table
+	 * continues in a new page.
+	 */
+	float getTopMargin() {
+		return topMargin;
+	}
+
+	void setTopMargin(float topMargin) {
+		this.topMargin = topMargin;
+	}
+}
@@ -2,6 +2,7 @@ package com.sughelp.pdf.generator;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.sughelp.pdf.generator.constants.PdfTemplateDefaultValues;
 
 /**
@@ -11,6 +12,11 @@ import com.sughelp.pdf.generator.constants.PdfTemplateDefaultValues;
  * ({@link Table}). This table will be converted to corresponding sections in
  * pdf. The table will be processed in the order it is stored in the list and in
  * same order the corresponding sections will be displayed in pdf. <br>
+ * When serialized to json, the tables are written after the other properties,
+ * so the json content can be streamed. <br>
+ * The template is not modified while a pdf is created, so one template can be
+ * used for many pdfs, also by many generators at the same time, as long as it
+ * is not changed meanwhile. <br>
  * <br>
 
  * 
@@ -19,6 +25,7 @@ import com.sughelp.pdf.generator.constants.PdfTemplateDefaultValues;
  *
  * @since 09-May-2020
  */
+@JsonPropertyOrder({ "topMargin", "bottomMargin", "tables" })
 public class Template {
 
 	private List<Table> tables;
@@ -73,4 +80,12 @@ public class Template {
 	public void setBottomMargin(float bottomMargin) {
 		this.bottomMargin = bottomMargin;
 	}
+
+	// copy of the properties set in the template without the tables
+	Template copy() {
+		Template template = new Template();
+		template.topMargin = topMargin;
+		template.bottomMargin = bottomMargin;
+		return template;
+	}
 }
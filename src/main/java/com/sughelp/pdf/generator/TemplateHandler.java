@@ -0,0 +1,37 @@
+package com.sughelp.pdf.generator;
+
+import java.io.IOException;
+
+/**
+ * Receives the parts of a template while it is streamed by
+ * {@link TemplateReader}. The template and table properties are received
+ * without the tables and rows, and each row is received on its own, in the
+ * order it is defined in the template.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+interface TemplateHandler {
+
+	/**
+	 * Called once, before the first table, with the properties of the template.
+	 */
+	void startTemplate(Template template) throws IOException;
+
+	/**
+	 * Called for each table, before its first row, with the properties of the
+	 * table.
+	 */
+	void startTable(Table table) throws IOException;
+
+	/**
+	 * Called for each row of the current table.
+	 */
+	void row(Table table, Row row) throws IOException;
+
+	/**
+	 * Called after the last row of the current table.
+	 */
+	void endTable(Table table) throws IOException;
+}
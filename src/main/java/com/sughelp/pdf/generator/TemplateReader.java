@@ -0,0 +1,183 @@
+package com.sughelp.pdf.generator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sughelp.pdf.generator.constants.PdfErrorDescription;
+import com.sughelp.pdf.generator.exception.PdfTemplateException;
+
+/**
+ * Reads a json template into a {@link Template}.<br>
+ * The reader is created once per JVM and is shared by all the threads, so the
+ * deserializers of the template classes are built only once. The template can
+ * be read from a String, a byte array, an {@link InputStream} or a file, so the
+ * caller does not have to convert it to a String first.<br>
+ * A template can also be streamed, in which case the rows are handed over one
+ * by one while the json content is parsed and the template is never held in
+ * memory as a whole.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public final class TemplateReader {
+
+	private static final ObjectReader TEMPLATE_READER = new ObjectMapper().readerFor(Template.class);
+	private static final ObjectReader TABLE_READER = TEMPLATE_READER.forType(Table.class);
+	private static final ObjectReader ROW_READER = TEMPLATE_READER.forType(Row.class);
+
+	private static final String TABLES = "tables";
+	private static final String ROWS = "rows";
+
+	private TemplateReader() {
+	}
+
+	/**
+	 * Reads the template from the json content.
+	 *
+	 * @param template
+	 *            The json content of the template
+	 * @throws IOException
+	 * @throws PdfTemplateException
+	 *             if the template structure is not valid
+	 */
+	public static Template read(String template) throws IOException, PdfTemplateException {
+		try {
+			return TEMPLATE_READER.readValue(template);
+		} catch (JsonParseException | JsonMappingException e) {
+			throw new PdfTemplateException(PdfErrorDescription.INVALID_TEMPLATE.getErrorDescription(), e);
+		}
+	}
+
+	/**
+	 * Reads the template from the json content encoded in UTF-8, UTF-16 or
+	 * UTF-32.
+	 *
+	 * @param template
+	 *            The json content of the template
+	 * @throws IOException
+	 * @throws PdfTemplateException
+	 *             if the template structure is not valid
+	 */
+	public static Template read(byte[] template) throws IOException, PdfTemplateException {
+		try {
+			return TEMPLATE_READER.readValue(template);
+		} catch (JsonParseException | JsonMappingException e) {
+			throw new PdfTemplateException(PdfErrorDescription.INVALID_TEMPLATE.getErrorDescription(), e);
+		}
+	}
+
+	/**
+	 * Reads the template from the json content of the stream. The stream is
+	 * closed once the template is read.
+	 *
+	 * @param template
+	 *            The stream of the json content of the template
+	 * @throws IOException
+	 * @throws PdfTemplateException
+	 *             if the template structure is not valid
+	 */
+	public static Template read(InputStream template) throws IOException, PdfTemplateException {
+		try {
+			return TEMPLATE_READER.readValue(template);
+		} catch (JsonParseException | JsonMappingException e) {
+			throw new PdfTemplateException(PdfErrorDescription.INVALID_TEMPLATE.getErrorDescription(), e);
+		}
+	}
+
+	/**
+	 * Reads the template from a json file.
+	 *
+	 * @param template
+	 *            The path of the json file of the template
+	 * @throws IOException
+	 * @throws PdfTemplateException
+	 *             if the template structure is not valid
+	 */
+	public static Template read(Path template) throws IOException, PdfTemplateException {
+		try (InputStream inputStream = Files.newInputStream(template)) {
+			return read(inputStream);
+		}
+	}
+
+	/**
+	 * Streams the template from the json content of the stream. The properties of
+	 * the template and of each table are bound when the tables or rows start, so
+	 * they must be defined before the tables and before the rows respectively.
+	 * Each row is bound and handed over on its own. The stream is closed once the
+	 * template is read.
+	 *
+	 * @throws PdfTemplateException
+	 *             if the template structure is not valid or the properties are
+	 *             defined after the tables or rows
+	 */
+	static void stream(InputStream template, TemplateHandler handler) throws IOException, PdfTemplateException {
+		try (JsonParser parser = TEMPLATE_READER.getFactory().createParser(template)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT)
+				throw new PdfTemplateException(PdfErrorDescription.INVALID_TEMPLATE.getErrorDescription());
+			ObjectNode properties = JsonNodeFactory.instance.objectNode();
+			boolean tablesStreamed = false;
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String name = parser.getCurrentName();
+				parser.nextToken();
+				if (tablesStreamed)
+					throw new PdfTemplateException(PdfErrorDescription.TEMPLATE_NOT_STREAMABLE.getErrorDescription());
+				if (TABLES.equals(name)) {
+					handler.startTemplate(TEMPLATE_READER.<Template>readValue(properties));
+					streamTables(parser, handler);
+					tablesStreamed = true;
+				} else
+					properties.set(name, TEMPLATE_READER.<JsonNode>readTree(parser));
+			}
+			if (!tablesStreamed)
+				handler.startTemplate(TEMPLATE_READER.<Template>readValue(properties));
+		} catch (JsonParseException | JsonMappingException e) {
+			throw new PdfTemplateException(PdfErrorDescription.INVALID_TEMPLATE.getErrorDescription(), e);
+		}
+	}
+
+	private static void streamTables(JsonParser parser, TemplateHandler handler) throws IOException {
+		if (parser.getCurrentToken() == JsonToken.VALUE_NULL)
+			return;
+		if (parser.getCurrentToken() != JsonToken.START_ARRAY)
+			throw new PdfTemplateException(PdfErrorDescription.INVALID_TEMPLATE.getErrorDescription());
+		while (parser.nextToken() == JsonToken.START_OBJECT)
+			streamTable(parser, handler);
+		if (parser.getCurrentToken() != JsonToken.END_ARRAY)
+			throw new PdfTemplateException(PdfErrorDescription.INVALID_TEMPLATE.getErrorDescription());
+	}
+
+	private static void streamTable(JsonParser parser, TemplateHandler handler) throws IOException {
+		ObjectNode properties = JsonNodeFactory.instance.objectNode();
+		Table table = null;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String name = parser.getCurrentName();
+			JsonToken token = parser.nextToken();
+			if (table != null)
+				throw new PdfTemplateException(PdfErrorDescription.TEMPLATE_NOT_STREAMABLE.getErrorDescription());
+			if (ROWS.equals(name)) {
+				if (token != JsonToken.START_ARRAY)
+					throw new PdfTemplateException(PdfErrorDescription.NO_ROWS_DEFINED.getErrorDescription());
+				table = TABLE_READER.readValue(properties);
+				handler.startTable(table);
+				while (parser.nextToken() != JsonToken.END_ARRAY)
+					handler.row(table, ROW_READER.<Row>readValue(parser));
+			} else
+				properties.set(name, TEMPLATE_READER.<JsonNode>readTree(parser));
+		}
+		if (table == null)
+			throw new PdfTemplateException(PdfErrorDescription.NO_ROWS_DEFINED.getErrorDescription());
+		handler.endTable(table);
+	}
+}
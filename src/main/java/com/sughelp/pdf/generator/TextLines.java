@@ -0,0 +1,84 @@
+package com.sughelp.pdf.generator;
+
+import java.util.Arrays;
+
+/**
+ * The lines into which the text of a column is split, as the offsets of the
+ * start and the end of each line in the text. A line is copied out of the text
+ * only when it is written.<br>
+ * The written lines are taken from the start by moving a cursor, so a row
+ * which continues in the next pages keeps its remaining lines without moving
+ * them. The lines are split again into the same object for the next text, so
+ * the lines of a column are reused from row to row.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+final class TextLines {
+
+	private String text = "";
+	// start and end offset of each line, one pair per line
+	private int[] offsets = new int[32];
+	private int count;
+	// the first line which is not written yet
+	private int first;
+
+	/**
+	 * Removes all the lines, to split the given text again.
+	 */
+	void reset(String text) {
+		this.text = text;
+		count = 0;
+		first = 0;
+	}
+
+	void add(int start, int end) {
+		if (count * 2 + 2 > offsets.length)
+			offsets = Arrays.copyOf(offsets, offsets.length * 2);
+		offsets[count * 2] = start;
+		offsets[count * 2 + 1] = end;
+		count++;
+	}
+
+	String getText() {
+		return text;
+	}
+
+	/**
+	 * The number of lines which are not written yet.
+	 */
+	int size() {
+		return count - first;
+	}
+
+	/**
+	 * The offset in the text of the start of a line, counted from the first line
+	 * which is not written yet.
+	 */
+	int getStart(int index) {
+		return offsets[(first + index) * 2];
+	}
+
+	/**
+	 * The offset in the text after the end of a line, counted from the first line
+	 * which is not written yet.
+	 */
+	int getEnd(int index) {
+		return offsets[(first + index) * 2 + 1];
+	}
+
+	/**
+	 * Copy of a line, counted from the first line which is not written yet.
+	 */
+	String get(int index) {
+		return text.substring(getStart(index), getEnd(index));
+	}
+
+	/**
+	 * Takes the given number of lines from the start, once they are written.
+	 */
+	void remove(int lineCount) {
+		first += lineCount;
+	}
+}
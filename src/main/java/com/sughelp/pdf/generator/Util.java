@@ -18,8 +18,21 @@ public class Util {
 
 	private static final Logger logger = LoggerFactory.getLogger(Util.class);
 
+	/**
+	 * Downloads the file of the url. The content is cached, please refer
+	 * {@link ImageDownloadCache}. The returned array may be shared with other
+	 * callers, so it must not be modified.
+	 * 
+	 * @param url
+	 *            The url of the file
+	 * @return The content of the file or null if it can not be downloaded
+	 */
 	public static byte[] downloadFile(String url) {
-		logger.info("downloading file from server");
+		return ImageDownloadCache.get(url);
+	}
+
+	static byte[] fetchFile(String url) {
+		logger.debug("downloading file from server");
 		InputStream is = null;
 		try {
 			URLConnection conn = new URL(url).openConnection();
@@ -33,7 +46,7 @@ public class Util {
 			while ((n = is.read(byteChunk)) > 0) {
 				baos.write(byteChunk, 0, n);
 			}
-			logger.info("file downloaded successfully");
+			logger.debug("file downloaded successfully");
 			return baos.toByteArray();
 		} catch (IOException e) {
 			logger.error("error while downloading file from server", e);
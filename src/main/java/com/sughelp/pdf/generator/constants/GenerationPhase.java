@@ -0,0 +1,39 @@
+package com.sughelp.pdf.generator.constants;
+
+/**
+ * The phases of the generation of a pdf, which are timed for each pdf.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public enum GenerationPhase {
+
+	/**
+	 * Reading the json template, or binding the values of a compiled template. A
+	 * template read from a stream is read while it is laid out, so it is the
+	 * time of reading its json between the rows.
+	 */
+	PARSE,
+	/**
+	 * Prefetching the images and loading the images of the cells in the
+	 * document, i.e. reading, downloading, decoding and embedding them.
+	 */
+	IMAGE_FETCH,
+	/**
+	 * Laying out the tables and the rows into pages, except the time of the
+	 * other phases on the thread creating the pdf. With more than one page write
+	 * thread, it includes the time waiting for the pages to be written.
+	 */
+	LAYOUT,
+	/**
+	 * Writing the content streams of the pages. With more than one page write
+	 * thread, it is the time of all the writing threads, which overlaps the
+	 * layout.
+	 */
+	CONTENT_STREAM,
+	/**
+	 * Saving the document, i.e. writing the pdf.
+	 */
+	SAVE;
+}
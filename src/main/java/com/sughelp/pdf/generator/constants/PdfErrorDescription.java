@@ -17,7 +17,21 @@ public enum PdfErrorDescription {
 	INVALID_TABLE_WIDTH_RATIO("The table width ratio value must be between 0 and 1"), //
 	INVALID_RGB_COMPONENTS(
 			"The color component should be a float array of size 3 and should contain RGB value from (0,0,0) to (255,255,255)"), //
-	PAGE_SIZE_EXCEEDED("Page size exceeded"); //
+	PAGE_SIZE_EXCEEDED("Page size exceeded"), //
+	TEMPLATE_NOT_STREAMABLE(
+			"To stream a template, the template properties must be defined before the tables and the table properties before the rows"), //
+	INVALID_MAX_MAIN_MEMORY("The max main memory bytes must be greater than 0 for mixed storage mode"), //
+	INVALID_IMAGE_CACHE_SIZE("The max bytes of the image download cache must not be negative"), //
+	INVALID_IMAGE_CACHE_TIME_TO_LIVE("The time to live of the image download cache must be greater than 0"), //
+	INVALID_IMAGE_PREFETCH_THREADS("The number of image prefetch threads must not be negative"), //
+	INVALID_IMAGE_PREFETCH_TIMEOUT("The image prefetch timeout must be greater than 0"), //
+	INVALID_IMAGE_TARGET_DPI("The image target dpi must not be negative"), //
+	INVALID_IMAGE_JPEG_QUALITY("The image JPEG quality must be between 0 and 1"), //
+	INVALID_BATCH_THREADS("The number of batch threads must be greater than 0"), //
+	INVALID_PAGE_WRITE_THREADS("The number of page write threads must be greater than 0"), //
+	PLACEHOLDER_NOT_BOUND("No value is given for the placeholder of the template"), //
+	INVALID_FONT_NAME("The name of a registered font must not be empty"), //
+	FONT_NOT_REGISTERED("No font is registered with the font name of the column"); //
 
 	private String errorDescrption;
 
@@ -0,0 +1,47 @@
+package com.sughelp.pdf.generator.constants;
+
+import java.util.zip.Deflater;
+
+/**
+ * How the content of the pages is compressed in the pdf, trading the time to
+ * write the pdf against its size.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public enum PdfOutputProfile {
+
+	/**
+	 * The content is compressed by PDFBox with its default level, which can be
+	 * changed for the whole JVM with the system property
+	 * <b>org.apache.pdfbox.filter.deflatelevel</b>.
+	 */
+	DEFAULT(Deflater.DEFAULT_COMPRESSION),
+	/**
+	 * The content is compressed with the fastest deflate level. The pdf is
+	 * written faster and is slightly larger than with the default level.
+	 */
+	FAST_WRITE(Deflater.BEST_SPEED),
+	/**
+	 * The content is compressed with the best deflate level. It is the slowest
+	 * profile and creates the smallest pdf.
+	 */
+	SMALLEST_FILE(Deflater.BEST_COMPRESSION),
+	/**
+	 * The content is not compressed. The pdf is written without any compression
+	 * cost but is several times larger. Use it when the pdf is compressed again
+	 * anyway, e.g. by the transport, or to read its content streams.
+	 */
+	UNCOMPRESSED(Deflater.NO_COMPRESSION);
+
+	private int deflateLevel;
+
+	PdfOutputProfile(int deflateLevel) {
+		this.deflateLevel = deflateLevel;
+	}
+
+	public int getDeflateLevel() {
+		return deflateLevel;
+	}
+}
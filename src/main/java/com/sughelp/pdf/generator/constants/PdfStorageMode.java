@@ -0,0 +1,28 @@
+package com.sughelp.pdf.generator.constants;
+
+/**
+ * Where the content of the document is kept while the pdf is being generated.
+ * 
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public enum PdfStorageMode {
+
+	/**
+	 * The whole document is kept in heap memory until it is saved. It is the
+	 * fastest mode, but the heap used grows with the size of the document.
+	 */
+	MAIN_MEMORY_ONLY,
+	/**
+	 * The document is kept in heap memory up to the max main memory bytes set in
+	 * the configuration. The rest is written to a temporary file.
+	 */
+	MIXED,
+	/**
+	 * The document is written to a temporary file, so the heap used does not
+	 * depend on the size of the document.
+	 */
+	TEMP_FILE_ONLY;
+
+}
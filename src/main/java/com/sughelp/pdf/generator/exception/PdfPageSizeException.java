@@ -9,7 +9,11 @@ import com.sughelp.pdf.generator.constants.PdfErrorDescription;
  * @author Anish
  *
  * @since 09-May-2020
+ * @deprecated The generator plans the page breaks of the rows before they are
+ *             drawn, so the content never exceeds the page and this exception
+ *             is not thrown anymore.
  */
+@Deprecated
 public class PdfPageSizeException extends Exception {
 
 	private static final long serialVersionUID = -2667316301802517248L;
@@ -0,0 +1,42 @@
+package com.sughelp.pdf.generator;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.sughelp.pdf.generator.constants.PdfErrorDescription;
+import com.sughelp.pdf.generator.exception.PdfTemplateException;
+
+/**
+ * Validation of a template while it is compiled.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public class CompiledTemplateTest {
+
+	@Test
+	public void failsToCompileAColumnWithAnUnregisteredFont() {
+		Column column = new Column();
+		column.setText("${name}");
+		column.setFontName("Not Registered");
+		Row row = new Row();
+		row.setColumns(Collections.singletonList(column));
+		Table table = new Table();
+		table.setTotalColumnCount(1);
+		table.setRows(Collections.singletonList(row));
+		Template template = new Template();
+		template.setTables(Collections.singletonList(table));
+
+		try {
+			CompiledTemplate.compile(template);
+			fail("the unregistered font is not found while compiling");
+		} catch (PdfTemplateException e) {
+			assertTrue(e.getMessage().startsWith(PdfErrorDescription.FONT_NOT_REGISTERED.getErrorDescription()));
+		}
+	}
+}
@@ -0,0 +1,151 @@
+package com.sughelp.pdf.generator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.sughelp.pdf.generator.exception.PdfTemplateException;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Records the Flight Recorder events of a pdf and checks the events of the
+ * document, its tables, pages, images and save. Skipped on a JVM without the
+ * Flight Recorder API.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public class FlightRecorderGenerationRecorderTest {
+
+	private static final String[] EVENT_NAMES = { "com.sughelp.pdf.Document", "com.sughelp.pdf.Table",
+			"com.sughelp.pdf.Page", "com.sughelp.pdf.ImageLoad", "com.sughelp.pdf.Save" };
+	private static final String FILE_NAME = "recorded.pdf";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File image;
+	private Template template;
+
+	@Before
+	public void createTemplate() throws IOException {
+		try {
+			Class.forName("jdk.jfr.FlightRecorder");
+		} catch (ClassNotFoundException e) {
+			Assume.assumeNoException("the JVM has no flight recorder", e);
+		}
+		image = folder.newFile("image.png");
+		TestTemplates.writeImage(image);
+		template = TestTemplates.create(image);
+	}
+
+	@Test
+	public void recordsTheEventsOfAPdf() throws IOException {
+		byte[] pdf;
+		Path recordingFile = folder.newFile("generation.jfr").toPath();
+		try (Recording recording = new Recording()) {
+			for (String eventName : EVENT_NAMES)
+				recording.enable(eventName);
+			recording.start();
+			try (PdfGenerator generator = new PdfGenerator()) {
+				pdf = generator.createPdfByteArray(template, FILE_NAME);
+			}
+			recording.stop();
+			recording.dump(recordingFile);
+		}
+		int pageCount;
+		try (PDDocument document = PDDocument.load(pdf)) {
+			pageCount = document.getNumberOfPages();
+		}
+		List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+
+		List<RecordedEvent> documents = events(events, "com.sughelp.pdf.Document");
+		assertEquals(1, documents.size());
+		RecordedEvent document = documents.get(0);
+		assertEquals(FILE_NAME, document.getString("templateId"));
+		assertEquals(pageCount, document.getInt("pageCount"));
+		assertEquals(75, document.getLong("rowCount"));
+		assertTrue(document.getLong("lineCount") > 75);
+		assertEquals(10, document.getLong("imageCount"));
+		assertEquals(pdf.length, document.getLong("byteCount"));
+
+		List<RecordedEvent> tables = events(events, "com.sughelp.pdf.Table");
+		assertEquals(2, tables.size());
+		assertEquals(1, tables.get(0).getInt("tableNumber"));
+		assertEquals(30, tables.get(0).getInt("rowCount"));
+		assertEquals(2, tables.get(1).getInt("tableNumber"));
+		assertEquals(45, tables.get(1).getInt("rowCount"));
+
+		List<RecordedEvent> pages = events(events, "com.sughelp.pdf.Page");
+		assertEquals(pageCount, pages.size());
+		for (int i = 0; i < pages.size(); i++)
+			assertEquals(i + 1, pages.get(i).getInt("pageNumber"));
+
+		List<RecordedEvent> imageLoads = events(events, "com.sughelp.pdf.ImageLoad");
+		assertEquals(10, imageLoads.size());
+		for (RecordedEvent imageLoad : imageLoads) {
+			assertEquals(image.getAbsolutePath(), imageLoad.getString("source"));
+			assertTrue(imageLoad.getBoolean("loaded"));
+		}
+
+		List<RecordedEvent> saves = events(events, "com.sughelp.pdf.Save");
+		assertEquals(1, saves.size());
+		assertEquals(pdf.length, saves.get(0).getLong("byteCount"));
+	}
+
+	@Test
+	public void dropsTheEventsOfAFailedPdf() throws IOException {
+		Instant failed;
+		Path recordingFile = folder.newFile("failed.jfr").toPath();
+		try (Recording recording = new Recording()) {
+			for (String eventName : EVENT_NAMES)
+				recording.enable(eventName);
+			recording.start();
+			try (PdfGenerator generator = new PdfGenerator()) {
+				try {
+					generator.createPdfByteArray("{ \"tables\": [", FILE_NAME);
+					fail("the invalid template is read");
+				} catch (PdfTemplateException e) {
+					// the events of the failed pdf must be dropped
+				}
+				failed = Instant.now();
+				generator.createPdfByteArray(template, FILE_NAME);
+			}
+			recording.stop();
+			recording.dump(recordingFile);
+		}
+
+		List<RecordedEvent> documents = events(RecordingFile.readAllEvents(recordingFile), "com.sughelp.pdf.Document");
+		assertEquals(1, documents.size());
+		assertFalse(documents.get(0).getStartTime().isBefore(failed));
+	}
+
+	// the events of the type in the order they started
+	private static List<RecordedEvent> events(List<RecordedEvent> events, String eventName) {
+		List<RecordedEvent> namedEvents = new ArrayList<>();
+		for (RecordedEvent event : events)
+			if (event.getEventType().getName().equals(eventName))
+				namedEvents.add(event);
+		namedEvents.sort((first, second) -> first.getStartTime().compareTo(second.getStartTime()));
+		return namedEvents;
+	}
+}
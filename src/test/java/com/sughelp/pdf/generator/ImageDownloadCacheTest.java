@@ -0,0 +1,148 @@
+package com.sughelp.pdf.generator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * {@link ImageDownloadCache} against a local http server, which counts the
+ * requests of each path.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public class ImageDownloadCacheTest {
+
+	private static final int IMAGE_BYTES = 100;
+
+	private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+	private final CountDownLatch slowResponse = new CountDownLatch(1);
+	private HttpServer server;
+	private ExecutorService serverExecutor;
+	private long maxBytes;
+	private long timeToLiveMillis;
+
+	@Before
+	public void startServer() throws IOException {
+		maxBytes = ImageDownloadCache.getMaxBytes();
+		timeToLiveMillis = ImageDownloadCache.getTimeToLiveMillis();
+		ImageDownloadCache.clear();
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/", this::respond);
+		serverExecutor = Executors.newCachedThreadPool();
+		server.setExecutor(serverExecutor);
+		server.start();
+	}
+
+	@After
+	public void stopServer() {
+		slowResponse.countDown();
+		server.stop(0);
+		serverExecutor.shutdownNow();
+		ImageDownloadCache.clear();
+		ImageDownloadCache.setMaxBytes(maxBytes);
+		ImageDownloadCache.setTimeToLiveMillis(timeToLiveMillis);
+	}
+
+	@Test
+	public void evictsTheLeastRecentlyUsedImage() {
+		ImageDownloadCache.setMaxBytes(2 * IMAGE_BYTES + IMAGE_BYTES / 2);
+		ImageDownloadCache.get(url("/a"));
+		ImageDownloadCache.get(url("/b"));
+		// a is used again, so b is the least recently used image
+		ImageDownloadCache.get(url("/a"));
+		ImageDownloadCache.get(url("/c"));
+
+		assertEquals(2 * IMAGE_BYTES, ImageDownloadCache.getCachedBytes());
+		ImageDownloadCache.get(url("/a"));
+		assertEquals(1, requests("/a"));
+		ImageDownloadCache.get(url("/b"));
+		assertEquals(2, requests("/b"));
+	}
+
+	@Test
+	public void downloadsAgainOnceTheTimeToLiveHasPassed() throws InterruptedException {
+		ImageDownloadCache.setTimeToLiveMillis(50);
+		byte[] first = ImageDownloadCache.get(url("/ttl"));
+		assertSame(first, ImageDownloadCache.get(url("/ttl")));
+		assertEquals(1, requests("/ttl"));
+
+		Thread.sleep(100);
+		assertArrayEquals(first, ImageDownloadCache.get(url("/ttl")));
+		assertEquals(2, requests("/ttl"));
+	}
+
+	@Test
+	public void downloadsOnceForConcurrentRequests() throws Exception {
+		int threads = 8;
+		long hits = ImageDownloadCache.getHits();
+		long misses = ImageDownloadCache.getMisses();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<byte[]>> downloads = new ArrayList<>();
+			for (int i = 0; i < threads; i++)
+				downloads.add(executor.submit(() -> ImageDownloadCache.get(url("/slow"))));
+			// the response is held till all the threads requested the image
+			Thread.sleep(200);
+			slowResponse.countDown();
+			byte[] content = downloads.get(0).get(10, TimeUnit.SECONDS);
+			for (Future<byte[]> download : downloads)
+				assertSame(content, download.get(10, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(1, requests("/slow"));
+		assertEquals(1, ImageDownloadCache.getMisses() - misses);
+		assertEquals(threads - 1, ImageDownloadCache.getHits() - hits);
+	}
+
+	private void respond(HttpExchange exchange) throws IOException {
+		String path = exchange.getRequestURI().getPath();
+		requests.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+		if (path.equals("/slow")) {
+			try {
+				slowResponse.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		byte[] content = new byte[IMAGE_BYTES];
+		content[0] = (byte) path.charAt(1);
+		exchange.sendResponseHeaders(200, content.length);
+		try (OutputStream body = exchange.getResponseBody()) {
+			body.write(content);
+		}
+	}
+
+	private int requests(String path) {
+		AtomicInteger count = requests.get(path);
+		return count == null ? 0 : count.get();
+	}
+
+	private String url(String path) {
+		return "http://localhost:" + server.getAddress().getPort() + path;
+	}
+}
@@ -0,0 +1,79 @@
+package com.sughelp.pdf.generator;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import javax.imageio.ImageIO;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * {@link ImagePassthrough} with valid and corrupted PNG images. A corrupted
+ * image must not be embedded and must not fail, so it is decoded instead.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public class ImagePassthroughTest {
+
+	private static final byte[] SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n' };
+
+	private PDDocument pdfDoc;
+
+	@Before
+	public void createDocument() {
+		pdfDoc = new PDDocument();
+	}
+
+	@After
+	public void closeDocument() throws IOException {
+		pdfDoc.close();
+	}
+
+	@Test
+	public void embedsAValidPng() throws IOException {
+		ByteArrayOutputStream png = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(4, 3, BufferedImage.TYPE_INT_RGB), "png", png);
+
+		assertNotNull(ImagePassthrough.createImage(pdfDoc, png.toByteArray()));
+	}
+
+	@Test
+	public void rejectsAChunkLongerThanTheImage() throws IOException {
+		ByteBuffer png = ByteBuffer.allocate(SIGNATURE.length + 12);
+		png.put(SIGNATURE).putInt(Integer.MAX_VALUE - 4).put("IHDR".getBytes(StandardCharsets.ISO_8859_1))
+				.putInt(0);
+
+		assertNull(ImagePassthrough.createImage(pdfDoc, png.array()));
+	}
+
+	@Test
+	public void rejectsAShortHeader() throws IOException {
+		ByteArrayOutputStream png = new ByteArrayOutputStream();
+		png.write(SIGNATURE);
+		png.write(chunk("IHDR", new byte[] { 0, 0, 0, 4, 0 }));
+		png.write(chunk("IEND", new byte[0]));
+
+		assertNull(ImagePassthrough.createImage(pdfDoc, png.toByteArray()));
+	}
+
+	private static byte[] chunk(String type, byte[] data) {
+		byte[] typeBytes = type.getBytes(StandardCharsets.ISO_8859_1);
+		CRC32 crc = new CRC32();
+		crc.update(typeBytes);
+		crc.update(data);
+		return ByteBuffer.allocate(data.length + 12).putInt(data.length).put(typeBytes).put(data)
+				.putInt((int) crc.getValue()).array();
+	}
+}
@@ -0,0 +1,121 @@
+package com.sughelp.pdf.generator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Failures of jobs and of the job iterator in {@link PdfBatchGenerator}.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public class PdfBatchGeneratorTest {
+
+	private static final int THREADS = 3;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Template template;
+
+	@Before
+	public void createTemplate() throws IOException {
+		File image = folder.newFile("image.png");
+		TestTemplates.writeImage(image);
+		template = TestTemplates.create(image);
+	}
+
+	@Test
+	public void continuesAfterAJobFailsWithAnError() throws InterruptedException {
+		Error error = new OutOfMemoryError("job too large");
+		List<PdfBatchJob> jobs = new ArrayList<>();
+		for (int i = 0; i < 12; i++) {
+			PdfBatchSink sink = i == 4 ? () -> {
+				throw error;
+			} : ByteArrayOutputStream::new;
+			jobs.add(new PdfBatchJob("job-" + i, template, sink));
+		}
+
+		PdfBatchReport report = new PdfBatchGenerator(THREADS, new PdfGeneratorConfig()).generate(jobs);
+
+		assertEquals(11, report.getSuccessCount());
+		assertEquals(1, report.getFailureCount());
+		for (PdfBatchResult result : report.getResults()) {
+			if (result.getJobId().equals("job-4")) {
+				assertTrue(result.getError() instanceof ExecutionException);
+				assertSame(error, result.getError().getCause());
+			} else
+				assertTrue(result.isSuccessful());
+		}
+	}
+
+	@Test
+	public void stopsTheWorkersBeforeAFailingIteratorIsThrown() throws InterruptedException {
+		AtomicInteger openSinks = new AtomicInteger();
+		AtomicInteger createdJobs = new AtomicInteger();
+		IllegalStateException failure = new IllegalStateException("no more jobs");
+		Iterator<PdfBatchJob> jobs = new Iterator<PdfBatchJob>() {
+
+			@Override
+			public boolean hasNext() {
+				return true;
+			}
+
+			@Override
+			public PdfBatchJob next() {
+				int job = createdJobs.incrementAndGet();
+				if (job == 8)
+					throw failure;
+				return new PdfBatchJob("job-" + job, template, () -> slowSink(openSinks));
+			}
+		};
+
+		try {
+			new PdfBatchGenerator(THREADS, new PdfGeneratorConfig()).generate(jobs);
+			fail("the failure of the iterator is not thrown");
+		} catch (IllegalStateException e) {
+			assertSame(failure, e);
+		}
+		assertEquals(0, openSinks.get());
+		assertFalse(Thread.currentThread().isInterrupted());
+	}
+
+	// a sink which is slow to write, so the other workers are still writing when
+	// the iterator fails
+	private static OutputStream slowSink(AtomicInteger openSinks) {
+		openSinks.incrementAndGet();
+		return new FilterOutputStream(new ByteArrayOutputStream()) {
+
+			@Override
+			public void close() throws IOException {
+				try {
+					Thread.sleep(100);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				openSinks.decrementAndGet();
+				super.close();
+			}
+		};
+	}
+}
@@ -0,0 +1,141 @@
+package com.sughelp.pdf.generator;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Renders one shared {@link Template} and one shared {@link CompiledTemplate}
+ * from many threads at the same time. Each pdf must have the same pages as a
+ * pdf rendered by a single thread and the template must not be modified.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+public class TemplateConcurrencyTest {
+
+	private static final int THREADS = 6;
+	private static final int RENDERS_PER_THREAD = 5;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final ObjectMapper mapper = new ObjectMapper();
+	private ExecutorService executor;
+	private Template template;
+	private String templateJson;
+
+	@Before
+	public void createTemplate() throws IOException {
+		File image = folder.newFile("image.png");
+		TestTemplates.writeImage(image);
+		template = TestTemplates.create(image);
+		templateJson = mapper.writeValueAsString(template);
+		executor = Executors.newFixedThreadPool(THREADS);
+	}
+
+	@After
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void rendersASharedTemplateConcurrently() throws Exception {
+		List<byte[]> expected = render(() -> new PdfGenerator().createPdfByteArray(template, "test.pdf"));
+
+		assertConcurrentRenders(expected, generator -> generator.createPdfByteArray(template, "test.pdf"));
+		assertEquals(templateJson, mapper.writeValueAsString(template));
+	}
+
+	@Test
+	public void rendersASharedCompiledTemplateConcurrently() throws Exception {
+		CompiledTemplate compiledTemplate = CompiledTemplate.compile(template);
+		Map<String, String> values = Collections.singletonMap(TestTemplates.NAME_PLACEHOLDER, "Anish");
+		List<byte[]> expected = render(
+				() -> new PdfGenerator().createPdfByteArray(compiledTemplate, values, "test.pdf"));
+
+		assertConcurrentRenders(expected,
+				generator -> generator.createPdfByteArray(compiledTemplate, values, "test.pdf"));
+		assertEquals(templateJson, mapper.writeValueAsString(template));
+	}
+
+	private void assertConcurrentRenders(List<byte[]> expected, Renderer renderer) throws Exception {
+		List<Future<List<List<byte[]>>>> threads = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++)
+			threads.add(executor.submit(() -> {
+				// each thread reuses its generator, as it is done for a batch
+				List<List<byte[]>> pdfs = new ArrayList<>();
+				try (PdfGenerator generator = new PdfGenerator()) {
+					for (int j = 0; j < RENDERS_PER_THREAD; j++) {
+						if (j > 0)
+							generator.reset();
+						pdfs.add(pageContents(renderer.render(generator)));
+					}
+				}
+				return pdfs;
+			}));
+		for (Future<List<List<byte[]>>> thread : threads)
+			for (List<byte[]> pages : thread.get())
+				assertPages(expected, pages);
+	}
+
+	private static List<byte[]> render(Callable<byte[]> pdf) throws Exception {
+		List<byte[]> pages = pageContents(pdf.call());
+		assertEquals(true, pages.size() > 1);
+		return pages;
+	}
+
+	// the content streams of the pages, which do not have the creation date and
+	// the id of the document
+	private static List<byte[]> pageContents(byte[] pdf) throws IOException {
+		List<byte[]> pages = new ArrayList<>();
+		try (PDDocument document = PDDocument.load(pdf)) {
+			for (PDPage page : document.getPages()) {
+				ByteArrayOutputStream content = new ByteArrayOutputStream();
+				try (InputStream inputStream = page.getContents()) {
+					byte[] buffer = new byte[8192];
+					int read;
+					while ((read = inputStream.read(buffer)) != -1)
+						content.write(buffer, 0, read);
+				}
+				pages.add(content.toByteArray());
+			}
+		}
+		return pages;
+	}
+
+	private static void assertPages(List<byte[]> expected, List<byte[]> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++)
+			assertEquals("page " + (i + 1), new String(expected.get(i), StandardCharsets.ISO_8859_1),
+					new String(actual.get(i), StandardCharsets.ISO_8859_1));
+	}
+
+	private interface Renderer {
+
+		byte[] render(PdfGenerator generator) throws Exception;
+	}
+}
@@ -0,0 +1,109 @@
+package com.sughelp.pdf.generator;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Builds the template rendered by the tests. The text of each cell names its
+ * row and column and its length depends only on them, so the template is the
+ * same for every test. The template has two tables, rows with an image and
+ * rows longer than a page, so it covers the page breaks within a row and the
+ * images.
+ *
+ * @author Anish
+ *
+ * @since 16-Oct-2026
+ */
+final class TestTemplates {
+
+	static final String NAME_PLACEHOLDER = "name";
+
+	private static final int[] TABLE_ROWS = { 30, 45 };
+	private static final int COLUMNS = 3;
+	private static final int IMAGE_ROW_INTERVAL = 7;
+	private static final int LONG_ROW_INTERVAL = 20;
+	private static final int LONG_TEXT_LENGTH = 6000;
+
+	private TestTemplates() {
+	}
+
+	/**
+	 * Creates the template. The first cell of the header of each table is the
+	 * placeholder {@link #NAME_PLACEHOLDER}, which is only replaced when the
+	 * template is compiled.
+	 *
+	 * @param imageFile
+	 *            The image drawn in the image cells
+	 */
+	static Template create(File imageFile) {
+		List<Table> tables = new ArrayList<>();
+		for (int rows : TABLE_ROWS) {
+			List<Row> rowList = new ArrayList<>();
+			for (int i = 0; i < rows; i++) {
+				Row row = new Row();
+				row.setIsHeader(i == 0);
+				row.setDrawBottomLine(true);
+				List<Column> columns = new ArrayList<>();
+				for (int j = 0; j < COLUMNS; j++) {
+					Column column = new Column();
+					column.setDrawVerticalLine(true);
+					if (i == 0 && j == 0)
+						column.setText("${" + NAME_PLACEHOLDER + "}");
+					else if (i % IMAGE_ROW_INTERVAL == IMAGE_ROW_INTERVAL - 1 && j == 1) {
+						column.setContentType("image");
+						column.setImageFile(imageFile.getAbsolutePath());
+						column.setImageWidth(30);
+						column.setImageHeight(30);
+					} else if (i % LONG_ROW_INTERVAL == LONG_ROW_INTERVAL - 1 && j == 2)
+						column.setText(text(i, j, LONG_TEXT_LENGTH));
+					else
+						column.setText(text(i, j, 20 + (i * 31 + j * 17) % 200));
+					columns.add(column);
+				}
+				row.setColumns(columns);
+				rowList.add(row);
+			}
+			Table table = new Table();
+			table.setTotalColumnCount(COLUMNS);
+			table.setDrawBoundary(true);
+			table.setTopMargin(10);
+			table.setRows(rowList);
+			tables.add(table);
+		}
+		Template template = new Template();
+		template.setTopMargin(40);
+		template.setBottomMargin(40);
+		template.setTables(tables);
+		return template;
+	}
+
+	/**
+	 * Writes the image drawn in the image cells to the file.
+	 */
+	static void writeImage(File file) throws IOException {
+		BufferedImage image = new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB);
+		for (int x = 0; x < image.getWidth(); x++)
+			for (int y = 0; y < image.getHeight(); y++)
+				image.setRGB(x, y, (x * 4 << 16) | (y * 4 << 8) | ((x + y) * 2 & 0xff));
+		ImageIO.write(image, "png", file);
+	}
+
+	// the name of the cell repeated to the given length, so the text wraps at
+	// spaces
+	private static String text(int row, int column, int length) {
+		String word = "row" + row + "-column" + column;
+		StringBuilder builder = new StringBuilder(length + word.length() + 1);
+		while (builder.length() < length) {
+			if (builder.length() > 0)
+				builder.append(' ');
+			builder.append(word);
+		}
+		builder.setLength(length);
+		return builder.toString();
+	}
+}